@@ -0,0 +1,78 @@
+#!/usr/bin/env bash
+# Measures time-to-first-request for the startup variants built by the pom profiles.
+#
+#   ./mvnw package            && scripts/startup-benchmark.sh jvm
+#   ./mvnw -Pcds package      && scripts/startup-benchmark.sh cds
+#   ./mvnw -Pnative native:compile && scripts/startup-benchmark.sh native
+#   scripts/startup-benchmark.sh summary
+#
+# Each run starts the application, polls GET /api/departments/1 until it answers, and prints the
+# wall-clock time from launch to first response next to the in-process figure logged by
+# FirstRequestTimingFilter. Results are appended to target/startup-benchmark.csv; "summary" prints
+# the median of each mode recorded there. A run that has not answered after TIMEOUT_S seconds fails.
+set -euo pipefail
+
+MODE="${1:-jvm}"
+RUNS="${RUNS:-5}"
+PORT="${PORT:-8080}"
+TIMEOUT_S="${TIMEOUT_S:-120}"
+URL="http://localhost:${PORT}/api/departments/1"
+TARGET_DIR="$(cd "$(dirname "$0")/.." && pwd)/target"
+JAR_NAME="employee-management-system-0.0.1-SNAPSHOT.jar"
+RESULTS="${TARGET_DIR}/startup-benchmark.csv"
+
+if [ "$MODE" = summary ]; then
+  [ -f "$RESULTS" ] || { echo "no results in $RESULTS yet" >&2; exit 1; }
+  for mode in $(tail -n +2 "$RESULTS" | cut -d, -f1 | sort -u); do
+    runs=$(grep -c "^${mode}," "$RESULTS")
+    median_ms=$(grep "^${mode}," "$RESULTS" | cut -d, -f3 | sort -n | awk '{ v[NR] = $1 } END { print (NR % 2) ? v[(NR + 1) / 2] : int((v[NR / 2] + v[NR / 2 + 1]) / 2) }')
+    echo "${mode}: median ${median_ms} ms wall clock over ${runs} runs"
+  done
+  exit 0
+fi
+
+case "$MODE" in
+  jvm)    ARTIFACT="${TARGET_DIR}/${JAR_NAME}"
+          CMD=(java -jar "$ARTIFACT") ;;
+  cds)    ARTIFACT="${TARGET_DIR}/cds/application.jsa"
+          # -Xshare:on fails instead of silently starting without the archive (e.g. after a JDK change)
+          CMD=(java -XX:SharedArchiveFile="$ARTIFACT" -Xshare:on -Dspring.aot.enabled=true -jar "${TARGET_DIR}/cds/${JAR_NAME}") ;;
+  native) ARTIFACT="${TARGET_DIR}/employee-management-system"
+          CMD=("$ARTIFACT") ;;
+  *) echo "usage: $0 jvm|cds|native|summary" >&2; exit 1 ;;
+esac
+[ -e "$ARTIFACT" ] || { echo "$ARTIFACT not found; build the ${MODE} variant first (see above)" >&2; exit 1; }
+
+[ -f "$RESULTS" ] || echo "mode,run,wall_clock_ms,in_process_ms" > "$RESULTS"
+
+pid=""
+trap '[ -n "$pid" ] && kill "$pid" 2>/dev/null || true' EXIT
+
+for run in $(seq 1 "$RUNS"); do
+  LOG="$(mktemp)"
+  start=$(date +%s%N)
+  "${CMD[@]}" --server.port="$PORT" --logging.level.org.hibernate.SQL=WARN > "$LOG" 2>&1 &
+  pid=$!
+  until curl -sf -o /dev/null "$URL"; do
+    if ! kill -0 "$pid" 2>/dev/null; then
+      echo "application exited before serving a request, see $LOG" >&2
+      exit 1
+    fi
+    if [ $(( ($(date +%s%N) - start) / 1000000000 )) -ge "$TIMEOUT_S" ]; then
+      echo "no response after ${TIMEOUT_S}s, see $LOG" >&2
+      exit 1
+    fi
+    sleep 0.02
+  done
+  end=$(date +%s%N)
+  sleep 0.2 # let the filter log its measurement
+  kill "$pid"
+  wait "$pid" 2>/dev/null || true
+  pid=""
+
+  wall_ms=$(( (end - start) / 1000000 ))
+  in_process_ms=$(grep -o 'Time to first request: [0-9]*' "$LOG" | grep -o '[0-9]*$' || echo "")
+  echo "${MODE} run ${run}: ${wall_ms} ms wall clock, ${in_process_ms:-?} ms in process"
+  echo "${MODE},${run},${wall_ms},${in_process_ms}" >> "$RESULTS"
+  rm -f "$LOG"
+done
@@ -0,0 +1,388 @@
+package com.example.employeemanagementsystem.cache;
+
+import com.example.employeemanagementsystem.config.ShardRouter;
+import com.example.employeemanagementsystem.dto.EmployeeLookupDTO;
+import com.example.employeemanagementsystem.entity.Employee;
+import com.example.employeemanagementsystem.repository.EmployeeNameJdbcRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Consumer;
+
+// Every employee's name by ID, for the EmployeeLookupDTOs embedded in responses (reporting managers,
+// department heads) and for lookup=true listings, so neither has to initialize a Hibernate proxy
+// or query another shard.
+// Entries live in three packed arrays: IDs sorted ascending in a long[] (binary search), and per
+// entry an int offset into a byte[] arena holding the length-prefixed UTF-8 name. That is 12 bytes
+// plus the encoded name (1-2 length bytes + ~1 byte per character) per employee, with no per-entry
+// objects for the GC to trace. Loaded at startup and kept current by the employee write paths.
+@Component
+public class EmployeeNameDirectory {
+
+    private static final Logger log = LoggerFactory.getLogger(EmployeeNameDirectory.class);
+
+    private final EmployeeNameJdbcRepository employeeNameJdbcRepository;
+    private final ShardRouter shardRouter;
+    private final StampedLock lock = new StampedLock();
+
+    // Guarded by lock
+    private Table table = new Table(0, 0);
+    // Writes committed while rebuild() scans the shards, replayed onto the rebuilt table; null otherwise
+    private List<Consumer<Table>> pendingWrites;
+
+    public EmployeeNameDirectory(EmployeeNameJdbcRepository employeeNameJdbcRepository, ShardRouter shardRouter,
+                                 MeterRegistry meterRegistry) {
+        this.employeeNameJdbcRepository = employeeNameJdbcRepository;
+        this.shardRouter = shardRouter;
+        Gauge.builder("employee.names.entries", this, EmployeeNameDirectory::size)
+                .register(meterRegistry);
+        Gauge.builder("employee.names.memory", this, EmployeeNameDirectory::memoryBytes)
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    // Null when the ID is unknown: not committed yet, archived, or written around the services
+    public String findName(long employeeId) {
+        long stamp = lock.readLock();
+        try {
+            int index = table.indexOf(employeeId);
+            return index >= 0 ? table.name(index) : null;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    // Name of a referenced employee (manager, department head) without initializing the reference;
+    // IDs the directory does not know yet fall back to ShardRouter.employeeName
+    public String nameOf(Employee reference) {
+        String name = findName(reference.getId());
+        return name != null ? name : shardRouter.employeeName(reference);
+    }
+
+    // Employees [offset, offset + limit) in ID order, copied out so the caller can serialize them
+    // without holding the lock
+    public NamePage findPage(long offset, int limit) {
+        long stamp = lock.readLock();
+        try {
+            return table.page(offset, limit);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    public int size() {
+        long stamp = lock.readLock();
+        try {
+            return table.size;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    public long memoryBytes() {
+        long stamp = lock.readLock();
+        try {
+            return table.memoryBytes();
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    // Applied once the surrounding transaction commits, like the EmployeeResponseCache evictions,
+    // so readers never see a name that could still be rolled back
+    public void putAfterCommit(Long employeeId, String name) {
+        byte[] encoded = name.getBytes(StandardCharsets.UTF_8);
+        runAfterCommit(directory -> directory.put(employeeId, encoded, 0, encoded.length));
+    }
+
+    public void removeAfterCommit(Collection<Long> employeeIds) {
+        List<Long> ids = List.copyOf(employeeIds);
+        runAfterCommit(directory -> ids.forEach(directory::remove));
+    }
+
+    // Each shard is scanned in ID order and the per-shard tables are merged; writes committed
+    // meanwhile are recorded and replayed, so none is lost to the swap
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        long stamp = lock.writeLock();
+        try {
+            pendingWrites = new ArrayList<>();
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+
+        Table rebuilt;
+        try {
+            rebuilt = Table.merge(shardRouter.onAllShards(true, shard -> scan()));
+        } catch (RuntimeException e) {
+            stamp = lock.writeLock();
+            try {
+                pendingWrites = null;
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+            throw e;
+        }
+
+        stamp = lock.writeLock();
+        try {
+            pendingWrites.forEach(write -> write.accept(rebuilt));
+            pendingWrites = null;
+            table = rebuilt;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+        log.info("Employee name directory loaded: {} employees in {} bytes", rebuilt.size, rebuilt.memoryBytes());
+    }
+
+    private Table scan() {
+        Table shardTable = new Table(1024, 16 * 1024);
+        employeeNameJdbcRepository.forEachName(resultSet -> {
+            byte[] name = resultSet.getString(2).getBytes(StandardCharsets.UTF_8);
+            shardTable.appendInOrder(resultSet.getLong(1), name, 0, name.length);
+        });
+        return shardTable;
+    }
+
+    private void runAfterCommit(Consumer<Table> write) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(write);
+                }
+            });
+        } else {
+            apply(write);
+        }
+    }
+
+    private void apply(Consumer<Table> write) {
+        long stamp = lock.writeLock();
+        try {
+            write.accept(table);
+            if (pendingWrites != null) {
+                pendingWrites.add(write);
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    // A copied slice of the directory: names stay UTF-8 encoded, back to back in `names`, with
+    // entry i spanning [nameStart(i), nameEnds[i])
+    public record NamePage(long[] ids, int[] nameEnds, byte[] names, long total) {
+
+        public int size() {
+            return ids.length;
+        }
+
+        public int nameStart(int index) {
+            return index == 0 ? 0 : nameEnds[index - 1];
+        }
+
+        public List<EmployeeLookupDTO> toLookupDTOs() {
+            List<EmployeeLookupDTO> lookups = new ArrayList<>(ids.length);
+            for (int i = 0; i < ids.length; i++) {
+                int start = nameStart(i);
+                lookups.add(new EmployeeLookupDTO(ids[i], new String(names, start, nameEnds[i] - start, StandardCharsets.UTF_8)));
+            }
+            return lookups;
+        }
+    }
+
+    // Not thread-safe; every access goes through the directory's lock
+    private static final class Table {
+
+        // Names are capped at 255 characters, so at most 765 UTF-8 bytes: two length bytes suffice
+        private static final int MAX_NAME_BYTES = 0x7FFF;
+
+        private long[] ids;
+        private int[] offsets;
+        private byte[] arena;
+        private int size;
+        private int arenaUsed;
+        private int garbage; // Arena bytes no longer referenced by any entry
+
+        private Table(int capacity, int arenaCapacity) {
+            this.ids = new long[Math.max(capacity, 16)];
+            this.offsets = new int[ids.length];
+            this.arena = new byte[Math.max(arenaCapacity, 256)];
+        }
+
+        // k-way merge of per-shard tables; an ID found on two shards (caught mid-move) is kept once
+        private static Table merge(List<Table> tables) {
+            if (tables.size() == 1) {
+                return tables.get(0);
+            }
+            int entries = 0;
+            int bytes = 0;
+            for (Table shardTable : tables) {
+                entries += shardTable.size;
+                bytes += shardTable.arenaUsed;
+            }
+            Table merged = new Table(entries, bytes);
+            int[] cursors = new int[tables.size()];
+            while (true) {
+                int next = -1;
+                for (int t = 0; t < tables.size(); t++) {
+                    Table candidate = tables.get(t);
+                    if (cursors[t] < candidate.size
+                            && (next < 0 || candidate.ids[cursors[t]] < tables.get(next).ids[cursors[next]])) {
+                        next = t;
+                    }
+                }
+                if (next < 0) {
+                    return merged;
+                }
+                Table source = tables.get(next);
+                int offset = source.offsets[cursors[next]];
+                int length = source.nameLength(offset);
+                merged.appendInOrder(source.ids[cursors[next]], source.arena, offset + prefixLength(length), length);
+                cursors[next]++;
+            }
+        }
+
+        private int indexOf(long id) {
+            return Arrays.binarySearch(ids, 0, size, id);
+        }
+
+        private String name(int index) {
+            int offset = offsets[index];
+            int length = nameLength(offset);
+            return new String(arena, offset + prefixLength(length), length, StandardCharsets.UTF_8);
+        }
+
+        private NamePage page(long offset, int limit) {
+            int from = (int) Math.min(offset, size);
+            int count = Math.min(limit, size - from);
+            int[] nameEnds = new int[count];
+            int bytes = 0;
+            for (int i = 0; i < count; i++) {
+                bytes += nameLength(offsets[from + i]);
+                nameEnds[i] = bytes;
+            }
+            byte[] names = new byte[bytes];
+            for (int i = 0; i < count; i++) {
+                int entry = offsets[from + i];
+                int length = nameLength(entry);
+                System.arraycopy(arena, entry + prefixLength(length), names, nameEnds[i] - length, length);
+            }
+            return new NamePage(Arrays.copyOfRange(ids, from, from + count), nameEnds, names, size);
+        }
+
+        private void put(long id, byte[] name, int from, int length) {
+            int index = indexOf(id);
+            int offset = append(name, from, length); // May compact, which moves every entry
+            if (index >= 0) {
+                garbage += entryLength(offsets[index]);
+                offsets[index] = offset;
+            } else {
+                insert(-index - 1, id, offset);
+            }
+        }
+
+        // Rebuild path: IDs arrive ascending, so every entry goes at the end
+        private void appendInOrder(long id, byte[] name, int from, int length) {
+            if (size > 0 && ids[size - 1] >= id) {
+                return;
+            }
+            insert(size, id, append(name, from, length));
+        }
+
+        private void remove(long id) {
+            int index = indexOf(id);
+            if (index < 0) {
+                return;
+            }
+            garbage += entryLength(offsets[index]);
+            System.arraycopy(ids, index + 1, ids, index, size - index - 1);
+            System.arraycopy(offsets, index + 1, offsets, index, size - index - 1);
+            size--;
+        }
+
+        private void insert(int index, long id, int offset) {
+            if (size == ids.length) {
+                int capacity = size + (size >> 1) + 1;
+                ids = Arrays.copyOf(ids, capacity);
+                offsets = Arrays.copyOf(offsets, capacity);
+            }
+            System.arraycopy(ids, index, ids, index + 1, size - index);
+            System.arraycopy(offsets, index, offsets, index + 1, size - index);
+            ids[index] = id;
+            offsets[index] = offset;
+            size++;
+        }
+
+        private int append(byte[] name, int from, int length) {
+            if (length > MAX_NAME_BYTES) {
+                throw new IllegalArgumentException("Employee name too long for the name directory: " + length + " bytes");
+            }
+            int needed = prefixLength(length) + length;
+            if (arenaUsed + needed > arena.length) {
+                // Reclaim renamed and removed entries before growing, once they make up half the arena
+                if (garbage >= arenaUsed / 2) {
+                    compact();
+                }
+                if (arenaUsed + needed > arena.length) {
+                    arena = Arrays.copyOf(arena, Math.max(arena.length + (arena.length >> 1), arenaUsed + needed));
+                }
+            }
+            int offset = arenaUsed;
+            if (length < 0x80) {
+                arena[arenaUsed++] = (byte) length;
+            } else {
+                arena[arenaUsed++] = (byte) (0x80 | (length >> 8));
+                arena[arenaUsed++] = (byte) length;
+            }
+            System.arraycopy(name, from, arena, arenaUsed, length);
+            arenaUsed += length;
+            return offset;
+        }
+
+        private void compact() {
+            byte[] compacted = new byte[arena.length];
+            int used = 0;
+            for (int i = 0; i < size; i++) {
+                int length = entryLength(offsets[i]);
+                System.arraycopy(arena, offsets[i], compacted, used, length);
+                offsets[i] = used;
+                used += length;
+            }
+            arena = compacted;
+            arenaUsed = used;
+            garbage = 0;
+        }
+
+        private int nameLength(int offset) {
+            int first = arena[offset];
+            return first >= 0 ? first : ((first & 0x7F) << 8) | (arena[offset + 1] & 0xFF);
+        }
+
+        private int entryLength(int offset) {
+            int length = nameLength(offset);
+            return prefixLength(length) + length;
+        }
+
+        private static int prefixLength(int length) {
+            return length < 0x80 ? 1 : 2;
+        }
+
+        private long memoryBytes() {
+            return 8L * ids.length + 4L * offsets.length + arena.length;
+        }
+    }
+}
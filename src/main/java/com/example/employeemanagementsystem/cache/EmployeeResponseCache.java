@@ -0,0 +1,130 @@
+package com.example.employeemanagementsystem.cache;
+
+import com.example.employeemanagementsystem.dto.EmployeeResponseDTO;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+// Read-through cache of EmployeeResponseDTOs keyed by employee ID.
+// Caffeine gives us W-TinyLFU (frequency based) eviction bounded by an estimated byte weight,
+// and Cache.get(key, loader) computes atomically per key, so concurrent misses for the same
+// employee share a single database load.
+@Component
+public class EmployeeResponseCache {
+
+    private final boolean enabled;
+    private final Cache<Long, EmployeeResponseDTO> cache;
+
+    // Bumped by every set-based eviction; see get()
+    private final AtomicLong evictionGeneration = new AtomicLong();
+
+    public EmployeeResponseCache(@Value("${app.cache.employee.enabled:false}") boolean enabled,
+                                 @Value("${app.cache.employee.max-weight-bytes:16777216}") long maxWeightBytes,
+                                 MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxWeightBytes)
+                .weigher((Long id, EmployeeResponseDTO dto) -> estimateSize(dto))
+                .recordStats()
+                .build();
+        if (enabled) {
+            // Exposes cache.gets{result=hit|miss}, cache.evictions, cache.size etc. under /actuator/metrics
+            CaffeineCacheMetrics.monitor(meterRegistry, cache, "employeeResponses");
+        }
+    }
+
+    // A load that overlapped a set-based eviction may have read the state from before the evicting
+    // commit, and set-based evictions cannot see loads still in flight. Its result is returned to
+    // its caller but not cached; the next read loads again.
+    public EmployeeResponseDTO get(Long id, Function<Long, EmployeeResponseDTO> loader) {
+        if (!enabled) {
+            return loader.apply(id);
+        }
+        EmployeeResponseDTO[] uncached = new EmployeeResponseDTO[1];
+        EmployeeResponseDTO cached = cache.get(id, key -> {
+            long generation = evictionGeneration.get();
+            EmployeeResponseDTO loaded = loader.apply(key);
+            if (evictionGeneration.get() != generation) {
+                uncached[0] = loaded;
+                return null; // Nothing is cached for a null result
+            }
+            return loaded;
+        });
+        return cached != null ? cached : uncached[0];
+    }
+
+    // Invalidations are deferred until the surrounding transaction commits, so they remove what was
+    // cached before the commit. Invalidating a single key also waits for a load of that key still in
+    // flight and removes its result, so that load cannot put the pre-commit state back.
+    public void evictAfterCommit(Long employeeId) {
+        runAfterCommit(() -> cache.invalidate(employeeId));
+    }
+
+    // Used when a department is renamed: every cached employee embedding that department's name is stale.
+    public void evictByDepartmentAfterCommit(Long departmentId) {
+        evictMatchingAfterCommit(dto -> dto.getDepartment() != null && departmentId.equals(dto.getDepartment().getId()));
+    }
+
+    // Used when an employee is renamed: every cached direct report embedding the manager's name is stale.
+    public void evictByReportingManagerAfterCommit(Long managerId) {
+        evictMatchingAfterCommit(dto -> dto.getReportingManager() != null && managerId.equals(dto.getReportingManager().getId()));
+    }
+
+    // Used after set-based bulk updates, where the affected IDs are not known individually.
+    public void evictAllAfterCommit() {
+        runAfterCommit(() -> {
+            evictionGeneration.incrementAndGet();
+            cache.invalidateAll();
+        });
+    }
+
+    // The generation moves before entries are removed: loads starting after it read committed state
+    private void evictMatchingAfterCommit(Predicate<EmployeeResponseDTO> stale) {
+        runAfterCommit(() -> {
+            evictionGeneration.incrementAndGet();
+            cache.asMap().values().removeIf(stale);
+        });
+    }
+
+    private void runAfterCommit(Runnable action) {
+        if (!enabled) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    // Rough retained size of a cached DTO: object headers and boxed fields plus string payloads.
+    private static int estimateSize(EmployeeResponseDTO dto) {
+        int size = 160;
+        size += stringSize(dto.getName()) + stringSize(dto.getAddress()) + stringSize(dto.getRole());
+        if (dto.getDepartment() != null) {
+            size += 48 + stringSize(dto.getDepartment().getName());
+        }
+        if (dto.getReportingManager() != null) {
+            size += 48 + stringSize(dto.getReportingManager().getName());
+        }
+        return size;
+    }
+
+    private static int stringSize(String value) {
+        return value == null ? 0 : 40 + value.length();
+    }
+}
@@ -0,0 +1,106 @@
+package com.example.employeemanagementsystem.config;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+// AIMD concurrency limit for a single endpoint. The limit grows by 1/limit per fast completion
+// while the endpoint is actually busy, and is cut by 10% (at most once per target-latency period)
+// when completions exceed the target latency. Callers over the limit wait in a bounded queue.
+public class AdaptiveConcurrencyLimiter {
+
+    private static final double BACKOFF_RATIO = 0.9;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final int maxQueue;
+    private final long targetLatencyNanos;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition permitAvailable = lock.newCondition();
+
+    private double limit;
+    private int inFlight;
+    private int waiting;
+    private long lastDecreaseNanos;
+
+    public AdaptiveConcurrencyLimiter(int minLimit, int maxLimit, int maxQueue, long targetLatencyMillis) {
+        this.minLimit = Math.min(minLimit, maxLimit);
+        this.maxLimit = maxLimit;
+        this.maxQueue = maxQueue;
+        this.targetLatencyNanos = TimeUnit.MILLISECONDS.toNanos(targetLatencyMillis);
+        this.limit = maxLimit;
+        this.lastDecreaseNanos = System.nanoTime() - targetLatencyNanos;
+    }
+
+    public boolean tryAcquire(long timeoutMillis) {
+        lock.lock();
+        try {
+            if (inFlight < (int) limit) {
+                inFlight++;
+                return true;
+            }
+            if (waiting >= maxQueue) {
+                return false;
+            }
+            waiting++;
+            try {
+                long remainingNanos = TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+                while (inFlight >= (int) limit) {
+                    if (remainingNanos <= 0) {
+                        return false;
+                    }
+                    remainingNanos = permitAvailable.awaitNanos(remainingNanos);
+                }
+                inFlight++;
+                return true;
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return false;
+            } finally {
+                waiting--;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void release(long latencyNanos) {
+        lock.lock();
+        try {
+            boolean busy = inFlight >= (int) limit / 2;
+            inFlight--;
+            long now = System.nanoTime();
+            if (latencyNanos > targetLatencyNanos) {
+                if (now - lastDecreaseNanos >= targetLatencyNanos) {
+                    limit = Math.max(minLimit, limit * BACKOFF_RATIO);
+                    lastDecreaseNanos = now;
+                }
+            } else if (busy) {
+                limit = Math.min(maxLimit, limit + 1.0 / limit);
+            }
+            permitAvailable.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void releaseWithoutSample() {
+        lock.lock();
+        try {
+            inFlight--;
+            permitAvailable.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getLimit() {
+        lock.lock();
+        try {
+            return (int) limit;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
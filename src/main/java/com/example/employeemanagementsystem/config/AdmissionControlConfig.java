@@ -0,0 +1,28 @@
+package com.example.employeemanagementsystem.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+@EnableConfigurationProperties(AdmissionProperties.class)
+@ConditionalOnProperty(name = "app.admission.enabled", havingValue = "true", matchIfMissing = true)
+public class AdmissionControlConfig implements WebMvcConfigurer {
+
+    private final AdmissionProperties admissionProperties;
+    private final MeterRegistry meterRegistry;
+
+    public AdmissionControlConfig(AdmissionProperties admissionProperties, MeterRegistry meterRegistry) {
+        this.admissionProperties = admissionProperties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new AdmissionControlInterceptor(admissionProperties, meterRegistry))
+                .addPathPatterns("/api/**");
+    }
+}
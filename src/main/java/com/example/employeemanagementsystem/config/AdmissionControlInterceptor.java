@@ -0,0 +1,93 @@
+package com.example.employeemanagementsystem.config;
+
+import com.example.employeemanagementsystem.exception.AdmissionRejectedException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Admits each API request against its endpoint's AdaptiveConcurrencyLimiter. Rejections are thrown
+// as AdmissionRejectedException and rendered as 503 with Retry-After by GlobalExceptionHandler,
+// so expensive endpoints are throttled on their own while cheap ones keep their capacity.
+// Functional routes (POST /api/graphql) are limited too, keyed by their path pattern.
+public class AdmissionControlInterceptor implements AsyncHandlerInterceptor {
+
+    private static final String LIMITER_ATTRIBUTE = AdmissionControlInterceptor.class.getName() + ".limiter";
+    private static final String START_ATTRIBUTE = AdmissionControlInterceptor.class.getName() + ".start";
+    private static final String STREAMING_ATTRIBUTE = AdmissionControlInterceptor.class.getName() + ".streaming";
+
+    private final AdmissionProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, AdaptiveConcurrencyLimiter> limiters = new ConcurrentHashMap<>();
+
+    public AdmissionControlInterceptor(AdmissionProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws IOException {
+        String endpoint = EndpointNames.of(request, handler);
+        if (endpoint == null
+                || request.getAttribute(LIMITER_ATTRIBUTE) != null) { // Already admitted (async/error redispatch)
+            return true;
+        }
+        AdaptiveConcurrencyLimiter limiter = limiters.computeIfAbsent(endpoint, this::createLimiter);
+
+        if (!limiter.tryAcquire(properties.getQueueTimeoutMs())) {
+            meterRegistry.counter("admission.rejected", "endpoint", endpoint).increment();
+            String message = "Server is busy handling " + endpoint + " requests. Please retry later.";
+            if (EndpointNames.isFunctional(handler)) {
+                response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(properties.getRetryAfterSeconds()));
+                response.sendError(HttpStatus.SERVICE_UNAVAILABLE.value(), message);
+                return false;
+            }
+            throw new AdmissionRejectedException(message, properties.getRetryAfterSeconds());
+        }
+        request.setAttribute(LIMITER_ATTRIBUTE, limiter);
+        request.setAttribute(START_ATTRIBUTE, System.nanoTime());
+        return true;
+    }
+
+    // Streaming responses (e.g. /api/stream/employees) keep their permit until the async redispatch
+    // completes, but their duration says nothing about server health, so it does not adjust the limit.
+    // Functional routes only go async to await a single response (GraphQL), so theirs still counts.
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (handler instanceof HandlerMethod) {
+            request.setAttribute(STREAMING_ATTRIBUTE, Boolean.TRUE);
+        }
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        Object limiter = request.getAttribute(LIMITER_ATTRIBUTE);
+        Object start = request.getAttribute(START_ATTRIBUTE);
+        if (limiter instanceof AdaptiveConcurrencyLimiter admittedLimiter && start instanceof Long startNanos) {
+            request.removeAttribute(START_ATTRIBUTE);
+            if (request.getAttribute(STREAMING_ATTRIBUTE) != null) {
+                admittedLimiter.releaseWithoutSample();
+            } else {
+                admittedLimiter.release(System.nanoTime() - startNanos);
+            }
+        }
+    }
+
+    private AdaptiveConcurrencyLimiter createLimiter(String endpoint) {
+        int maxLimit = properties.getLimits().getOrDefault(endpoint, properties.getDefaultLimit());
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(
+                properties.getMinLimit(), maxLimit, properties.getMaxQueue(), properties.getTargetLatencyMs());
+        Gauge.builder("admission.limit", limiter, AdaptiveConcurrencyLimiter::getLimit)
+                .tag("endpoint", endpoint)
+                .register(meterRegistry);
+        return limiter;
+    }
+}
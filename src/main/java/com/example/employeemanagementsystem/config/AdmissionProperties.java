@@ -0,0 +1,33 @@
+package com.example.employeemanagementsystem.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.admission")
+public class AdmissionProperties {
+    private boolean enabled = true;
+
+    // Upper bound on concurrent requests per endpoint; the adaptive limit moves between minLimit and this
+    private int defaultLimit = 64;
+    private int minLimit = 2;
+
+    // Requests over the limit wait up to queueTimeoutMs in a queue of at most maxQueue, then get a 503
+    private int maxQueue = 32;
+    private long queueTimeoutMs = 50;
+
+    // Completions slower than this shrink the endpoint's limit; faster ones let it grow back
+    private long targetLatencyMs = 250;
+
+    private int retryAfterSeconds = 1;
+
+    // Per-endpoint limit overrides keyed by "<ControllerSimpleName>.<methodName>" (or the path of a
+    // functional route), e.g. app.admission.limits[DepartmentController.getAllDepartments]=8
+    // or app.admission.limits[/api/graphql]=16
+    private Map<String, Integer> limits = new HashMap<>();
+}
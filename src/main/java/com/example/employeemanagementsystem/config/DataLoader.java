@@ -5,6 +5,7 @@ import com.example.employeemanagementsystem.entity.Employee;
 import com.example.employeemanagementsystem.repository.DepartmentRepository;
 import com.example.employeemanagementsystem.repository.EmployeeRepository;
 import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.transaction.annotation.Transactional;
@@ -19,7 +20,9 @@ import java.util.UUID;
 @Configuration
 public class DataLoader {
 
+    // Tests that need known rows (e.g. golden JSON output) turn the random sample data off
     @Bean
+    @ConditionalOnProperty(name = "app.sample-data.enabled", havingValue = "true", matchIfMissing = true)
     @Transactional
     CommandLineRunner initDatabase(DepartmentRepository departmentRepository, EmployeeRepository employeeRepository) {
         return args -> {
@@ -139,7 +142,9 @@ public class DataLoader {
                 emp = employeeRepository.save(emp);
                 employees.add(emp);
             }
+            // Totals are not updatable through the entity; compute them from the employees just saved
+            departments.forEach(department -> departmentRepository.recomputeTotals(department.getId()));
             System.out.println("Initial data loaded successfully: " + employees.size() + " employees and " + departments.size() + " departments.");
         };
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,27 @@
+package com.example.employeemanagementsystem.config;
+
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionTimedOutException;
+
+// JpaTransactionManager whose transactions time out no later than the current request's deadline.
+// Spring turns the transaction timeout into a JDBC query timeout on every JPA query and JdbcTemplate
+// statement (whole seconds, rounded up), and fails statements issued after it has passed with
+// TransactionTimedOutException, so expired work is cancelled in the database rather than left running.
+public class DeadlineAwareTransactionManager extends JpaTransactionManager {
+
+    @Override
+    protected int determineTimeout(TransactionDefinition definition) {
+        int timeout = super.determineTimeout(definition);
+        RequestDeadline deadline = RequestDeadline.current();
+        if (deadline == null) {
+            return timeout;
+        }
+        long remainingMillis = deadline.remainingMillis();
+        if (remainingMillis <= 0) {
+            throw new TransactionTimedOutException("Deadline of " + deadline.getEndpoint() + " passed before its transaction started");
+        }
+        int remainingSeconds = (int) Math.min(Integer.MAX_VALUE, (remainingMillis + 999) / 1000);
+        return timeout == TransactionDefinition.TIMEOUT_DEFAULT ? remainingSeconds : Math.min(timeout, remainingSeconds);
+    }
+}
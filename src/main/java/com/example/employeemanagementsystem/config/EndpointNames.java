@@ -0,0 +1,31 @@
+package com.example.employeemanagementsystem.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.function.HandlerFunction;
+
+// Endpoint names for per-endpoint admission limits and deadlines: "<ControllerSimpleName>.<methodName>"
+// for annotated controllers, and the route's path pattern (e.g. "/api/graphql") for functional routes
+final class EndpointNames {
+
+    private EndpointNames() {
+    }
+
+    // Null for handlers that are not API endpoints (static resources, etc.)
+    static String of(HttpServletRequest request, Object handler) {
+        if (handler instanceof HandlerMethod handlerMethod) {
+            return handlerMethod.getBeanType().getSimpleName() + "." + handlerMethod.getMethod().getName();
+        }
+        if (handler instanceof HandlerFunction<?>
+                && request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE) instanceof String pattern) {
+            return pattern;
+        }
+        return null;
+    }
+
+    // @ControllerAdvice only covers annotated controllers, so functional routes get a plain error response
+    static boolean isFunctional(Object handler) {
+        return handler instanceof HandlerFunction<?>;
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.employeemanagementsystem.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// Records time-to-first-request: from process start (as reported by the OS, so it also covers
+// JVM/native-image boot) until the first API response has been written. Logged once and exposed
+// as the application.first.request.time gauge; scripts/startup-benchmark.sh compares it across
+// the plain JVM, CDS and native builds.
+@Component
+public class FirstRequestTimingFilter extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(FirstRequestTimingFilter.class);
+
+    private final AtomicBoolean recorded = new AtomicBoolean();
+    private final MeterRegistry meterRegistry;
+
+    public FirstRequestTimingFilter(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        filterChain.doFilter(request, response);
+        if (!recorded.get() && request.getRequestURI().startsWith("/api/") && recorded.compareAndSet(false, true)) {
+            ProcessHandle.current().info().startInstant().ifPresent(start -> {
+                long millis = Duration.between(start, Instant.now()).toMillis();
+                log.info("Time to first request: {} ms", millis);
+                TimeGauge.builder("application.first.request.time", () -> millis, TimeUnit.MILLISECONDS)
+                        .register(meterRegistry);
+            });
+        }
+    }
+}
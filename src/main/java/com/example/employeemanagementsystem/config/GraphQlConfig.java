@@ -0,0 +1,31 @@
+package com.example.employeemanagementsystem.config;
+
+import graphql.analysis.MaxQueryComplexityInstrumentation;
+import graphql.analysis.MaxQueryDepthInstrumentation;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class GraphQlConfig {
+
+    // Each nesting level of a GraphQL query costs one batched query, so depth is what bounds its cost
+    @Bean
+    public MaxQueryDepthInstrumentation maxQueryDepthInstrumentation(@Value("${app.graphql.max-depth:8}") int maxDepth) {
+        return new MaxQueryDepthInstrumentation(maxDepth);
+    }
+
+    // Complexity bounds the size of the response instead: every list field is paged (`size` on the
+    // roots, `first` on nested lists) and multiplies its selection by that limit, so the complexity
+    // is an upper bound on the number of values returned. Each field's share is capped just above
+    // the maximum so the sums cannot overflow.
+    @Bean
+    public MaxQueryComplexityInstrumentation maxQueryComplexityInstrumentation(
+            @Value("${app.graphql.max-complexity:10000}") int maxComplexity) {
+        return new MaxQueryComplexityInstrumentation(maxComplexity, (environment, childComplexity) -> {
+            Object limit = environment.getArguments().getOrDefault("size", environment.getArguments().get("first"));
+            long fanOut = limit instanceof Integer count ? Math.max(count, 0) : 1;
+            return (int) Math.min(fanOut * (1L + childComplexity), maxComplexity + 1L);
+        });
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.employeemanagementsystem.config;
+
+import com.example.employeemanagementsystem.dto.ArchivedEmployeeResponseDTO;
+import com.example.employeemanagementsystem.dto.DepartmentLookupDTO;
+import com.example.employeemanagementsystem.dto.DepartmentResponseDTO;
+import com.example.employeemanagementsystem.dto.EmployeeLookupDTO;
+import com.example.employeemanagementsystem.dto.EmployeeResponseDTO;
+import com.example.employeemanagementsystem.dto.PagedResponse;
+import com.example.employeemanagementsystem.dto.PayrollResultDTO;
+import com.example.employeemanagementsystem.entity.PayrollResultId;
+import com.example.employeemanagementsystem.entity.PayrollRunChunkId;
+import com.example.employeemanagementsystem.exception.ErrorResponse;
+import com.example.employeemanagementsystem.graphql.DepartmentNode;
+import com.example.employeemanagementsystem.graphql.EmployeeNode;
+import com.example.employeemanagementsystem.repository.EmployeeRepository;
+import com.example.employeemanagementsystem.repository.PayrollRunChunkRepository;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.annotation.RegisterReflectionForBinding;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+import org.springframework.data.projection.TargetAware;
+
+// Hints for the native image (and AOT on the JVM) that Spring's AOT processing cannot infer.
+// Controller request/response types are registered automatically; what is listed here is only
+// reached reflectively: DTOs nested inside generic PagedResponse content or built by
+// GlobalExceptionHandler, the GraphQL node records (read by graphql-java's property fetchers
+// and built by JPQL constructor expressions), the @IdClass key classes, the JDK proxies
+// Spring Data creates for interface-based query projections, and the ServiceLoader-registered
+// RequestDeadlineThreadLocalAccessor. Lombok needs nothing: it only
+// generates plain accessors at compile time.
+@Configuration(proxyBeanMethods = false)
+@ImportRuntimeHints(NativeRuntimeHints.Registrar.class)
+@RegisterReflectionForBinding({
+        PagedResponse.class,
+        EmployeeResponseDTO.class,
+        EmployeeLookupDTO.class,
+        DepartmentResponseDTO.class,
+        DepartmentLookupDTO.class,
+        PayrollResultDTO.class,
+        ArchivedEmployeeResponseDTO.class,
+        ErrorResponse.class,
+        EmployeeNode.class,
+        DepartmentNode.class
+})
+public class NativeRuntimeHints {
+
+    static class Registrar implements RuntimeHintsRegistrar {
+        @Override
+        public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+            hints.reflection().registerType(PayrollResultId.class, MemberCategory.values());
+            hints.reflection().registerType(PayrollRunChunkId.class, MemberCategory.values());
+
+            // Loaded by context propagation through ServiceLoader
+            hints.resources().registerPattern("META-INF/services/io.micrometer.context.ThreadLocalAccessor");
+            hints.reflection().registerType(RequestDeadlineThreadLocalAccessor.class, MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+
+            registerProjection(hints, EmployeeRepository.DepartmentTotals.class);
+            registerProjection(hints, EmployeeRepository.EmployeeIdRange.class);
+            registerProjection(hints, PayrollRunChunkRepository.ChunkProgress.class);
+        }
+
+        private static void registerProjection(RuntimeHints hints, Class<?> projection) {
+            hints.reflection().registerType(projection, MemberCategory.INVOKE_PUBLIC_METHODS);
+            hints.proxies().registerJdkProxy(AopProxyUtils.completeJdkProxyInterfaces(projection, TargetAware.class));
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.employeemanagementsystem.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class PayrollConfig {
+
+    // Each payroll run submits exactly one long-lived task per worker, which then pulls chunks itself
+    @Bean
+    ThreadPoolTaskExecutor payrollExecutor(@Value("${app.payroll.workers:8}") int workers) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(workers);
+        executor.setMaxPoolSize(workers);
+        executor.setThreadNamePrefix("payroll-");
+        return executor;
+    }
+}
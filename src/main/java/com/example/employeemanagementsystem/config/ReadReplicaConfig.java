@@ -0,0 +1,80 @@
+package com.example.employeemanagementsystem.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+// Routes read-only transactions (@Transactional(readOnly = true)) to a replica when
+// app.datasource.replica.url is set. The lazy proxy only picks a target once the transaction has
+// marked the connection read-only, and a client that has just written stays on the primary for
+// app.datasource.replica.sticky-window-ms (see ReadYourWritesContext).
+@Configuration
+@ConditionalOnProperty(name = "app.datasource.replica.url")
+public class ReadReplicaConfig {
+
+    @Bean
+    HikariDataSource primaryDataSource(DataSourceProperties primaryProperties) {
+        HikariDataSource primary = primaryProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        primary.setPoolName("primary");
+        return primary;
+    }
+
+    @Bean
+    HikariDataSource replicaDataSource(DataSourceProperties primaryProperties,
+                                       @Value("${app.datasource.replica.url}") String replicaUrl,
+                                       @Value("${app.datasource.replica.username:${spring.datasource.username:}}") String replicaUsername,
+                                       @Value("${app.datasource.replica.password:${spring.datasource.password:}}") String replicaPassword) {
+        HikariDataSource replica = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .driverClassName(primaryProperties.determineDriverClassName())
+                .url(replicaUrl)
+                .username(replicaUsername)
+                .password(replicaPassword)
+                .build();
+        replica.setPoolName("replica");
+        return replica;
+    }
+
+    @Bean
+    @Primary
+    DataSource dataSource(HikariDataSource primaryDataSource, HikariDataSource replicaDataSource,
+                          @Value("${app.datasource.replica.sticky-window-ms:5000}") long stickyWindowMillis) {
+        DataSource primaryTrackingWrites = new DelegatingDataSource(primaryDataSource) {
+            @Override
+            public Connection getConnection() throws SQLException {
+                if (TransactionSynchronizationManager.isActualTransactionActive()
+                        && !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+                    ReadYourWritesContext.markWrite(stickyWindowMillis);
+                }
+                return super.getConnection();
+            }
+        };
+        DataSource replicaUnlessPinned = new DelegatingDataSource(replicaDataSource) {
+            @Override
+            public Connection getConnection() throws SQLException {
+                return ReadYourWritesContext.isPinnedToPrimary() ? primaryDataSource.getConnection() : super.getConnection();
+            }
+        };
+
+        LazyConnectionDataSourceProxy routingDataSource = new LazyConnectionDataSourceProxy(primaryTrackingWrites);
+        routingDataSource.setReadOnlyDataSource(replicaUnlessPinned);
+        return routingDataSource;
+    }
+
+    @Bean
+    ReadYourWritesFilter readYourWritesFilter(@Value("${app.datasource.replica.sticky-window-ms:5000}") long stickyWindowMillis) {
+        return new ReadYourWritesFilter(stickyWindowMillis);
+    }
+}
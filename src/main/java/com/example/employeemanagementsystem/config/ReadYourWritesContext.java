@@ -0,0 +1,69 @@
+package com.example.employeemanagementsystem.config;
+
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.util.function.Supplier;
+
+// Per-thread read-your-writes state for replica routing. After a read-write transaction touches
+// the primary, reads on the same thread (and, through a cookie, from the same client) stay on the
+// primary for the configured window so they cannot observe replication lag.
+public final class ReadYourWritesContext {
+
+    public static final String COOKIE_NAME = "EMS-Primary-Until";
+
+    private static final ThreadLocal<State> STATE = ThreadLocal.withInitial(State::new);
+
+    private ReadYourWritesContext() {
+    }
+
+    public static boolean isPinnedToPrimary() {
+        State state = STATE.get();
+        return state.primaryOnly || System.currentTimeMillis() < state.primaryUntil;
+    }
+
+    // Runs `work` with this thread's reads on the primary, without opening a sticky window for later
+    // reads. For results that outlive the request, such as cache entries, which must not capture
+    // whatever state a lagging replica is in. Only connections first used inside `work` are affected.
+    public static <T> T callOnPrimary(Supplier<T> work) {
+        State state = STATE.get();
+        boolean previous = state.primaryOnly;
+        state.primaryOnly = true;
+        try {
+            return work.get();
+        } finally {
+            state.primaryOnly = previous;
+        }
+    }
+
+    static void markWrite(long stickyWindowMillis) {
+        State state = STATE.get();
+        state.primaryUntil = Math.max(state.primaryUntil, System.currentTimeMillis() + stickyWindowMillis);
+        if (state.response != null && !state.cookieSent && !state.response.isCommitted()) {
+            Cookie cookie = new Cookie(COOKIE_NAME, Long.toString(state.primaryUntil));
+            cookie.setPath("/");
+            cookie.setHttpOnly(true);
+            cookie.setMaxAge((int) Math.ceil(stickyWindowMillis / 1000.0));
+            state.response.addCookie(cookie);
+            state.cookieSent = true;
+        }
+    }
+
+    static void beginRequest(HttpServletResponse response, long primaryUntil) {
+        State state = STATE.get();
+        state.response = response;
+        state.primaryUntil = primaryUntil;
+        state.cookieSent = false;
+    }
+
+    static void endRequest() {
+        STATE.remove();
+    }
+
+    private static final class State {
+        private long primaryUntil;
+        private boolean primaryOnly;
+        private HttpServletResponse response;
+        private boolean cookieSent;
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.employeemanagementsystem.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+// Restores the client's primary pin from its cookie for the duration of the request
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    private final long stickyWindowMillis;
+
+    public ReadYourWritesFilter(long stickyWindowMillis) {
+        this.stickyWindowMillis = stickyWindowMillis;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        ReadYourWritesContext.beginRequest(response, primaryUntilFromCookie(request));
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            ReadYourWritesContext.endRequest();
+        }
+    }
+
+    // The cookie is client-controlled: a value that has passed or lies beyond one sticky window from
+    // now is ignored, so a client cannot pin itself to the primary for longer than a write would
+    private long primaryUntilFromCookie(HttpServletRequest request) {
+        if (request.getCookies() == null) {
+            return 0L;
+        }
+        for (Cookie cookie : request.getCookies()) {
+            if (ReadYourWritesContext.COOKIE_NAME.equals(cookie.getName())) {
+                long primaryUntil;
+                try {
+                    primaryUntil = Long.parseLong(cookie.getValue());
+                } catch (NumberFormatException ex) {
+                    return 0L;
+                }
+                long now = System.currentTimeMillis();
+                return primaryUntil > now && primaryUntil <= now + stickyWindowMillis ? primaryUntil : 0L;
+            }
+        }
+        return 0L;
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.employeemanagementsystem.config;
+
+import com.example.employeemanagementsystem.exception.DeadlineExceededException;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+// Per-thread deadline of the API request being served, set by RequestDeadlineInterceptor.
+// DeadlineAwareTransactionManager caps transaction (and so JDBC query) timeouts at the remaining
+// time, and multi-step work calls checkpoint() between steps so it stops once the client has given up.
+public final class RequestDeadline {
+
+    private static final ThreadLocal<RequestDeadline> CURRENT = new ThreadLocal<>();
+
+    private final String endpoint;
+    private final long timeoutMillis;
+    private final long expiresAtNanos;
+
+    RequestDeadline(String endpoint, long timeoutMillis) {
+        this.endpoint = endpoint;
+        this.timeoutMillis = timeoutMillis;
+        this.expiresAtNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+    }
+
+    // The deadline bound to this thread, or null outside a request (startup, schedulers, payroll workers)
+    public static RequestDeadline current() {
+        return CURRENT.get();
+    }
+
+    public static void checkpoint(String step) {
+        RequestDeadline deadline = CURRENT.get();
+        if (deadline != null) {
+            deadline.check(step);
+        }
+    }
+
+    public void check(String step) {
+        if (isExpired()) {
+            throw new DeadlineExceededException(endpoint + " exceeded its " + timeoutMillis + " ms deadline during " + step + ".");
+        }
+    }
+
+    public boolean isExpired() {
+        return expiresAtNanos - System.nanoTime() <= 0;
+    }
+
+    public long remainingMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(expiresAtNanos - System.nanoTime());
+    }
+
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    // Runs `work` on this thread under `deadline` (which may be null), for work handed to another thread
+    public static <T> T callWithin(RequestDeadline deadline, Supplier<T> work) {
+        RequestDeadline previous = CURRENT.get();
+        set(deadline);
+        try {
+            return work.get();
+        } finally {
+            set(previous);
+        }
+    }
+
+    // TaskDecorator: the task runs under the deadline of the thread that submitted it
+    public static Runnable propagate(Runnable task) {
+        RequestDeadline deadline = CURRENT.get();
+        if (deadline == null) {
+            return task;
+        }
+        return () -> callWithin(deadline, () -> {
+            task.run();
+            return null;
+        });
+    }
+
+    static void set(RequestDeadline deadline) {
+        if (deadline == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(deadline);
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.employeemanagementsystem.config;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.transaction.TransactionManagerCustomizers;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+@EnableConfigurationProperties(RequestDeadlineProperties.class)
+@ConditionalOnProperty(name = "app.deadline.enabled", havingValue = "true", matchIfMissing = true)
+public class RequestDeadlineConfig implements WebMvcConfigurer {
+
+    private final RequestDeadlineProperties requestDeadlineProperties;
+
+    public RequestDeadlineConfig(RequestDeadlineProperties requestDeadlineProperties) {
+        this.requestDeadlineProperties = requestDeadlineProperties;
+    }
+
+    // Takes the place of Boot's JpaTransactionManager, which backs off when one is defined
+    @Bean
+    public PlatformTransactionManager transactionManager(ObjectProvider<TransactionManagerCustomizers> transactionManagerCustomizers) {
+        DeadlineAwareTransactionManager transactionManager = new DeadlineAwareTransactionManager();
+        transactionManagerCustomizers.ifAvailable(customizers -> customizers.customize(transactionManager));
+        return transactionManager;
+    }
+
+    // Registered ahead of admission control, so time spent queued for admission counts against the deadline
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new RequestDeadlineInterceptor(requestDeadlineProperties))
+                .addPathPatterns("/api/**")
+                .order(Ordered.HIGHEST_PRECEDENCE);
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.employeemanagementsystem.config;
+
+import com.example.employeemanagementsystem.exception.ValidationException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import java.io.IOException;
+
+// Starts each API request's deadline from the timeout header or the endpoint's default and binds it
+// to the handling thread. The deadline is kept as a request attribute, so async and error
+// redispatches see the original deadline rather than starting a new one. GraphQL resolvers that run
+// on other threads get it through RequestDeadlineThreadLocalAccessor.
+public class RequestDeadlineInterceptor implements AsyncHandlerInterceptor {
+
+    public static final String DEADLINE_ATTRIBUTE = RequestDeadlineInterceptor.class.getName() + ".deadline";
+
+    private final RequestDeadlineProperties properties;
+
+    public RequestDeadlineInterceptor(RequestDeadlineProperties properties) {
+        this.properties = properties;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws IOException {
+        String endpoint = EndpointNames.of(request, handler);
+        if (endpoint == null) {
+            return true;
+        }
+        if (request.getAttribute(DEADLINE_ATTRIBUTE) instanceof RequestDeadline deadline) {
+            RequestDeadline.set(deadline);
+            return true;
+        }
+        long timeoutMillis;
+        try {
+            timeoutMillis = timeoutFor(request, endpoint);
+        } catch (ValidationException ex) {
+            if (!EndpointNames.isFunctional(handler)) {
+                throw ex;
+            }
+            response.sendError(HttpStatus.BAD_REQUEST.value(), ex.getMessage());
+            return false;
+        }
+        if (timeoutMillis > 0) {
+            RequestDeadline deadline = new RequestDeadline(endpoint, timeoutMillis);
+            request.setAttribute(DEADLINE_ATTRIBUTE, deadline);
+            RequestDeadline.set(deadline);
+        }
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        RequestDeadline.set(null);
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        RequestDeadline.set(null);
+    }
+
+    private long timeoutFor(HttpServletRequest request, String endpoint) {
+        String header = request.getHeader(properties.getHeader());
+        if (header == null) {
+            return properties.getTimeouts().getOrDefault(endpoint, properties.getDefaultTimeoutMs());
+        }
+        long requested;
+        try {
+            requested = Long.parseLong(header.trim());
+        } catch (NumberFormatException ex) {
+            requested = 0;
+        }
+        if (requested <= 0) {
+            throw new ValidationException(properties.getHeader() + " must be a positive number of milliseconds.");
+        }
+        return Math.min(requested, properties.getMaxTimeoutMs());
+    }
+}
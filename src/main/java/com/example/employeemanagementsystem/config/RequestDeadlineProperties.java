@@ -0,0 +1,27 @@
+package com.example.employeemanagementsystem.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.deadline")
+public class RequestDeadlineProperties {
+    private boolean enabled = true;
+
+    // Clients may send their own budget in milliseconds in this header; it is capped at maxTimeoutMs
+    private String header = "X-Request-Timeout-Ms";
+    private long maxTimeoutMs = 60000;
+
+    // Deadline for requests without the header
+    private long defaultTimeoutMs = 10000;
+
+    // Per-endpoint defaults keyed by "<ControllerSimpleName>.<methodName>" (or the path of a functional
+    // route, e.g. app.deadline.timeouts[/api/graphql]=5000); 0 means no deadline unless
+    // the client sends one, e.g. app.deadline.timeouts[EmployeeStreamController.streamEmployees]=0
+    private Map<String, Long> timeouts = new HashMap<>();
+}
@@ -0,0 +1,30 @@
+package com.example.employeemanagementsystem.config;
+
+import io.micrometer.context.ThreadLocalAccessor;
+
+// Lets context propagation carry the request's deadline to the threads Spring for GraphQL resolves
+// fields and batch loads on. Registered through META-INF/services.
+public class RequestDeadlineThreadLocalAccessor implements ThreadLocalAccessor<RequestDeadline> {
+
+    public static final String KEY = RequestDeadline.class.getName();
+
+    @Override
+    public Object key() {
+        return KEY;
+    }
+
+    @Override
+    public RequestDeadline getValue() {
+        return RequestDeadline.current();
+    }
+
+    @Override
+    public void setValue(RequestDeadline deadline) {
+        RequestDeadline.set(deadline);
+    }
+
+    @Override
+    public void setValue() {
+        RequestDeadline.set(null);
+    }
+}
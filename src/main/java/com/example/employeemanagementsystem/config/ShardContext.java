@@ -0,0 +1,29 @@
+package com.example.employeemanagementsystem.config;
+
+// Per-thread shard selection read by ShardRoutingDataSource when a transaction opens its first
+// statement. Unset means shard 0, which also holds the authoritative copy of department
+// reference data and is where new departments are created.
+public final class ShardContext {
+
+    private static final ThreadLocal<Integer> CURRENT = new ThreadLocal<>();
+
+    private ShardContext() {
+    }
+
+    public static int current() {
+        Integer shard = CURRENT.get();
+        return shard != null ? shard : 0;
+    }
+
+    static Integer get() {
+        return CURRENT.get();
+    }
+
+    static void set(Integer shard) {
+        if (shard == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(shard);
+        }
+    }
+}
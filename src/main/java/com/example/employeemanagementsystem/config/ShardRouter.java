@@ -0,0 +1,211 @@
+package com.example.employeemanagementsystem.config;
+
+import com.example.employeemanagementsystem.entity.Employee;
+import com.example.employeemanagementsystem.repository.ShardJdbcRepository;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalInt;
+import java.util.PriorityQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+
+// Shard selection and scatter-gather for the sharded persistence mode (see ShardedDataSourceConfig).
+// With app.sharding.shard-urls unset there is a single shard and isSharded() is false; services
+// then skip every sharding branch and behave exactly as before.
+@Component
+public class ShardRouter {
+
+    // Set while a shard-query thread runs onAllShards work. A nested scatter from there would wait on
+    // tasks queued behind the very workers it blocks, so once the pool is busy it could never finish.
+    private static final ThreadLocal<Boolean> IN_SHARD_WORKER = ThreadLocal.withInitial(() -> false);
+
+    private final int shardCount;
+    private final boolean sharded;
+    private final PlatformTransactionManager transactionManager;
+    private final ShardJdbcRepository shardJdbcRepository;
+    private final ThreadPoolTaskExecutor executor;
+
+    public ShardRouter(@Value("${app.sharding.shard-urls:}") String[] shardUrls,
+                       @Value("${app.sharding.query-threads:16}") int queryThreads,
+                       PlatformTransactionManager transactionManager,
+                       ShardJdbcRepository shardJdbcRepository) {
+        this.sharded = shardUrls.length > 0;
+        this.shardCount = Math.max(1, shardUrls.length);
+        this.transactionManager = transactionManager;
+        this.shardJdbcRepository = shardJdbcRepository;
+        if (sharded) {
+            executor = new ThreadPoolTaskExecutor();
+            executor.setCorePoolSize(queryThreads);
+            executor.setMaxPoolSize(queryThreads);
+            executor.setThreadNamePrefix("shard-query-");
+            executor.setTaskDecorator(RequestDeadline::propagate); // Per-shard queries share the request's deadline
+            executor.initialize();
+        } else {
+            executor = null;
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+
+    public boolean isSharded() {
+        return sharded;
+    }
+
+    public int shardCount() {
+        return shardCount;
+    }
+
+    // Employees without a department live on shard 0
+    public int shardFor(Long departmentId) {
+        return departmentId == null ? 0 : (int) Math.floorMod(departmentId, (long) shardCount);
+    }
+
+    // Routes the current transaction to `shard`. Must be called before the transaction's first
+    // query, since the connection is bound to a shard once it is first used.
+    public void routeTo(int shard) {
+        if (!sharded) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new IllegalStateException("ShardRouter.routeTo requires an active transaction");
+        }
+        Integer previous = ShardContext.get();
+        ShardContext.set(shard);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                ShardContext.set(previous);
+            }
+        });
+    }
+
+    // Runs `work` in its own transaction on `shard`, suspending any transaction on the calling thread
+    public <T> T inShard(int shard, boolean readOnly, Supplier<T> work) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        transactionTemplate.setReadOnly(readOnly);
+        Integer previous = ShardContext.get();
+        ShardContext.set(shard);
+        try {
+            return transactionTemplate.execute(status -> work.get());
+        } finally {
+            ShardContext.set(previous);
+        }
+    }
+
+    // Runs `work` on every shard in parallel, one transaction per shard; results are indexed by shard
+    public <T> List<T> onAllShards(boolean readOnly, IntFunction<T> work) {
+        if (!sharded) {
+            return List.of(inShard(0, readOnly, () -> work.apply(0)));
+        }
+        if (IN_SHARD_WORKER.get()) {
+            throw new IllegalStateException("onAllShards cannot be called from inside another onAllShards task");
+        }
+        List<CompletableFuture<T>> futures = new ArrayList<>(shardCount);
+        for (int shard = 0; shard < shardCount; shard++) {
+            int target = shard;
+            futures.add(CompletableFuture.supplyAsync(() -> {
+                IN_SHARD_WORKER.set(true);
+                try {
+                    return inShard(target, readOnly, () -> work.apply(target));
+                } finally {
+                    IN_SHARD_WORKER.remove();
+                }
+            }, executor));
+        }
+        List<T> results = new ArrayList<>(shardCount);
+        try {
+            for (CompletableFuture<T> future : futures) {
+                results.add(future.join());
+            }
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+        return results;
+    }
+
+    // The shard currently holding the employee, if any. The ID's home shard is checked first:
+    // employees only leave it when moved to another department's shard.
+    public OptionalInt findEmployeeShard(Long employeeId) {
+        int home = (int) Math.min((employeeId - 1) / ShardedDataSourceConfig.ID_RANGE_PER_SHARD, shardCount - 1);
+        if (inShard(home, true, () -> shardJdbcRepository.employeeExists(employeeId))) {
+            return OptionalInt.of(home);
+        }
+        List<Boolean> found = onAllShards(true, shard -> shard != home && shardJdbcRepository.employeeExists(employeeId));
+        for (int shard = 0; shard < found.size(); shard++) {
+            if (found.get(shard)) {
+                return OptionalInt.of(shard);
+            }
+        }
+        return OptionalInt.empty();
+    }
+
+    public Map<Long, String> findEmployeeNames(Collection<Long> employeeIds) {
+        Map<Long, String> names = new HashMap<>();
+        if (employeeIds.isEmpty()) {
+            return names;
+        }
+        List<Long> ids = List.copyOf(employeeIds);
+        onAllShards(true, shard -> shardJdbcRepository.findEmployeeNames(ids)).forEach(names::putAll);
+        return names;
+    }
+
+    // Name of a referenced employee (manager, department head), who may live on another shard
+    public String employeeName(Employee reference) {
+        if (!sharded) {
+            return reference.getName();
+        }
+        return findEmployeeNames(List.of(reference.getId())).get(reference.getId());
+    }
+
+    // k-way merge of per-shard lists that are each sorted by `order`, skipping the first `skip` elements
+    public static <T> List<T> mergeSorted(List<List<T>> sortedLists, Comparator<? super T> order, long skip, int limit) {
+        PriorityQueue<Head<T>> heads = new PriorityQueue<>((a, b) -> order.compare(a.value(), b.value()));
+        for (List<T> list : sortedLists) {
+            Iterator<T> iterator = list.iterator();
+            if (iterator.hasNext()) {
+                heads.add(new Head<>(iterator.next(), iterator));
+            }
+        }
+        List<T> merged = new ArrayList<>(limit);
+        long position = 0;
+        while (!heads.isEmpty() && merged.size() < limit) {
+            Head<T> head = heads.poll();
+            if (position++ >= skip) {
+                merged.add(head.value());
+            }
+            if (head.rest().hasNext()) {
+                heads.add(new Head<>(head.rest().next(), head.rest()));
+            }
+        }
+        return merged;
+    }
+
+    private record Head<T>(T value, Iterator<T> rest) {
+    }
+}
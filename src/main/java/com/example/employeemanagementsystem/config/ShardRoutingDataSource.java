@@ -0,0 +1,11 @@
+package com.example.employeemanagementsystem.config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+class ShardRoutingDataSource extends AbstractRoutingDataSource {
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return ShardContext.current();
+    }
+}
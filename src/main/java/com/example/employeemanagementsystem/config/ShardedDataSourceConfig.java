@@ -0,0 +1,115 @@
+package com.example.employeemanagementsystem.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Sharded persistence mode, enabled by listing one JDBC URL per shard in app.sharding.shard-urls.
+// Employees live on the shard chosen by ShardRouter.shardFor(departmentId); departments are
+// replicated to every shard. The lazy proxy defers picking a shard until a transaction runs its
+// first statement, so services can route with ShardRouter.routeTo at the start of a transaction.
+// Not combinable with app.datasource.replica.url; requires spring.jpa.open-in-view=false so each
+// transaction gets its own connection.
+@Configuration
+@ConditionalOnProperty(name = "app.sharding.shard-urls")
+public class ShardedDataSourceConfig {
+
+    // Employee IDs generated on shard i start at i * ID_RANGE_PER_SHARD + 1, keeping them unique
+    // across shards; an employee keeps its ID when it moves to another shard
+    static final long ID_RANGE_PER_SHARD = 1_000_000_000_000L;
+
+    @Bean
+    ShardDataSources shardDataSources(DataSourceProperties properties,
+                                      @Value("${app.sharding.shard-urls}") String[] shardUrls) {
+        List<HikariDataSource> shards = new ArrayList<>();
+        for (int i = 0; i < shardUrls.length; i++) {
+            HikariDataSource shard = DataSourceBuilder.create()
+                    .type(HikariDataSource.class)
+                    .driverClassName(properties.determineDriverClassName())
+                    .url(shardUrls[i].trim())
+                    .username(properties.determineUsername())
+                    .password(properties.determinePassword())
+                    .build();
+            shard.setPoolName("shard-" + i);
+            shards.add(shard);
+        }
+        return new ShardDataSources(shards);
+    }
+
+    @Bean
+    @Primary
+    DataSource dataSource(ShardDataSources shardDataSources) {
+        ShardRoutingDataSource routingDataSource = new ShardRoutingDataSource();
+        Map<Object, Object> targets = new HashMap<>();
+        for (int i = 0; i < shardDataSources.shards().size(); i++) {
+            targets.put(i, shardDataSources.shards().get(i));
+        }
+        routingDataSource.setTargetDataSources(targets);
+        routingDataSource.setDefaultTargetDataSource(shardDataSources.shards().get(0));
+        routingDataSource.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    // Hibernate only builds the schema on shard 0 at startup (the default route), so the other
+    // shards are initialized here, before CommandLineRunners such as DataLoader run
+    @EventListener(ContextRefreshedEvent.class)
+    public void initializeShards(ContextRefreshedEvent event) {
+        ShardDataSources shardDataSources = event.getApplicationContext().getBean(ShardDataSources.class);
+        SessionFactory sessionFactory = event.getApplicationContext().getBean(EntityManagerFactory.class).unwrap(SessionFactory.class);
+        for (int i = 0; i < shardDataSources.shards().size(); i++) {
+            JdbcTemplate shardJdbcTemplate = new JdbcTemplate(shardDataSources.shards().get(i));
+            if (i > 0) {
+                Integer previous = ShardContext.get();
+                ShardContext.set(i);
+                try {
+                    sessionFactory.getSchemaManager().exportMappedObjects(true);
+                } finally {
+                    ShardContext.set(previous);
+                }
+                long rangeStart = i * ID_RANGE_PER_SHARD;
+                Long lastId = shardJdbcTemplate.queryForObject(
+                        "SELECT COALESCE(MAX(id), ?) FROM employees WHERE id > ? AND id <= ?",
+                        Long.class, rangeStart, rangeStart, rangeStart + ID_RANGE_PER_SHARD);
+                shardJdbcTemplate.execute("ALTER TABLE employees ALTER COLUMN id RESTART WITH " + (lastId + 1));
+            }
+            // Managers and department heads may live on another shard, so those foreign keys cannot
+            // hold within one shard (H2-specific; other databases would create the schema without them)
+            shardJdbcTemplate.execute("SET REFERENTIAL_INTEGRITY FALSE");
+        }
+    }
+
+    // Holds the per-shard pools so they are closed on shutdown
+    static final class ShardDataSources implements AutoCloseable {
+        private final List<HikariDataSource> shards;
+
+        ShardDataSources(List<HikariDataSource> shards) {
+            this.shards = shards;
+        }
+
+        List<HikariDataSource> shards() {
+            return shards;
+        }
+
+        @Override
+        public void close() {
+            shards.forEach(HikariDataSource::close);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.employeemanagementsystem.controller;
+
+import com.example.employeemanagementsystem.dto.ArchivedEmployeeResponseDTO;
+import com.example.employeemanagementsystem.dto.PagedResponse;
+import com.example.employeemanagementsystem.service.EmployeeArchiveService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/archived-employees")
+public class ArchivedEmployeeController {
+
+    private final EmployeeArchiveService employeeArchiveService;
+
+    public ArchivedEmployeeController(EmployeeArchiveService employeeArchiveService) {
+        this.employeeArchiveService = employeeArchiveService;
+    }
+
+    @GetMapping
+    public ResponseEntity<PagedResponse<ArchivedEmployeeResponseDTO>> getArchivedEmployees(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return ResponseEntity.ok(employeeArchiveService.getArchivedEmployees(page, size));
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<ArchivedEmployeeResponseDTO> getArchivedEmployeeById(@PathVariable Long id) {
+        return ResponseEntity.ok(employeeArchiveService.getArchivedEmployeeById(id));
+    }
+}
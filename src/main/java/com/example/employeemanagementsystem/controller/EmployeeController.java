@@ -1,24 +1,52 @@
 package com.example.employeemanagementsystem.controller;
 
+import com.example.employeemanagementsystem.dto.BulkEmployeeUpdateRequestDTO;
+import com.example.employeemanagementsystem.dto.BulkEmployeeUpdateResponseDTO;
 import com.example.employeemanagementsystem.dto.EmployeeCreateRequestDTO;
+import com.example.employeemanagementsystem.dto.EmployeeHistoryDTO;
+import com.example.employeemanagementsystem.dto.EmployeeOffboardRequestDTO;
+import com.example.employeemanagementsystem.dto.EmployeeOffboardResponseDTO;
 import com.example.employeemanagementsystem.dto.EmployeeResponseDTO;
 import com.example.employeemanagementsystem.dto.EmployeeUpdateDepartmentRequestDTO;
 import com.example.employeemanagementsystem.dto.EmployeeUpdateRequestDTO;
 import com.example.employeemanagementsystem.dto.PagedResponse;
+import com.example.employeemanagementsystem.dto.TopEmployeesGroupDTO;
+import com.example.employeemanagementsystem.dto.UpcomingEventDTO;
+import com.example.employeemanagementsystem.service.EmployeeArchiveService;
+import com.example.employeemanagementsystem.service.EmployeeHistoryService;
+import com.example.employeemanagementsystem.service.EmployeeRankingService;
 import com.example.employeemanagementsystem.service.EmployeeService;
+import com.example.employeemanagementsystem.service.UpcomingEventService;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.List;
+
 @RestController
 @RequestMapping("/api/employees")
 public class EmployeeController {
 
     private final EmployeeService employeeService;
+    private final EmployeeArchiveService employeeArchiveService;
+    private final UpcomingEventService upcomingEventService;
+    private final EmployeeRankingService employeeRankingService;
+    private final EmployeeHistoryService employeeHistoryService;
 
-    public EmployeeController(EmployeeService employeeService) {
+    public EmployeeController(EmployeeService employeeService, EmployeeArchiveService employeeArchiveService,
+                              UpcomingEventService upcomingEventService, EmployeeRankingService employeeRankingService,
+                              EmployeeHistoryService employeeHistoryService) {
         this.employeeService = employeeService;
+        this.employeeArchiveService = employeeArchiveService;
+        this.upcomingEventService = upcomingEventService;
+        this.employeeRankingService = employeeRankingService;
+        this.employeeHistoryService = employeeHistoryService;
     }
 
     @PostMapping
@@ -27,22 +55,57 @@ public class EmployeeController {
         return new ResponseEntity<>(createdEmployee, HttpStatus.CREATED);
     }
 
+    // Hot listing path: rows are written to the response as they are read, with no DTO graph
     @GetMapping
-    public ResponseEntity<PagedResponse<EmployeeResponseDTO>> getAllEmployees(
+    public void getAllEmployees(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false, defaultValue = "false") boolean lookup,
+            HttpServletResponse response
+    ) throws IOException {
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        employeeService.writeAllEmployees(page, size, lookup, response.getOutputStream());
+    }
+
+    @GetMapping(params = "asOf")
+    public ResponseEntity<PagedResponse<EmployeeResponseDTO>> getAllEmployeesAsOf(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size,
-            @RequestParam(required = false, defaultValue = "false") boolean lookup
+            @RequestParam(required = false, defaultValue = "false") boolean lookup,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate asOf
     ) {
-        PagedResponse<EmployeeResponseDTO> employees = employeeService.getAllEmployees(page, size, lookup);
+        PagedResponse<EmployeeResponseDTO> employees = employeeHistoryService.getEmployeesAsOf(asOf, page, size, lookup);
         return ResponseEntity.ok(employees);
     }
 
+    @GetMapping("/upcoming")
+    public ResponseEntity<List<UpcomingEventDTO>> getUpcomingEvents(
+            @RequestParam String type,
+            @RequestParam(defaultValue = "7") int days
+    ) {
+        return ResponseEntity.ok(upcomingEventService.getUpcomingEvents(type, days));
+    }
+
+    @GetMapping("/top")
+    public ResponseEntity<List<TopEmployeesGroupDTO>> getTopEmployees(
+            @RequestParam(defaultValue = "salary") String by,
+            @RequestParam(defaultValue = "department") String groupBy,
+            @RequestParam(defaultValue = "5") int k
+    ) {
+        return ResponseEntity.ok(employeeRankingService.getTopEmployees(by, groupBy, k));
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<EmployeeResponseDTO> getEmployeeById(@PathVariable Long id) {
         EmployeeResponseDTO employee = employeeService.getEmployeeById(id);
         return ResponseEntity.ok(employee);
     }
 
+    @GetMapping("/{id}/history")
+    public ResponseEntity<List<EmployeeHistoryDTO>> getEmployeeHistory(@PathVariable Long id) {
+        return ResponseEntity.ok(employeeHistoryService.getHistory(id));
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<EmployeeResponseDTO> updateEmployee(@PathVariable Long id, @Valid @RequestBody EmployeeUpdateRequestDTO requestDTO) {
         EmployeeResponseDTO updatedEmployee = employeeService.updateEmployee(id, requestDTO);
@@ -56,4 +119,16 @@ public class EmployeeController {
         EmployeeResponseDTO updatedEmployee = employeeService.updateEmployeeDepartment(id, requestDTO);
         return ResponseEntity.ok(updatedEmployee);
     }
+
+    @PostMapping("/bulk-update")
+    public ResponseEntity<BulkEmployeeUpdateResponseDTO> bulkUpdateEmployees(@Valid @RequestBody BulkEmployeeUpdateRequestDTO requestDTO) {
+        BulkEmployeeUpdateResponseDTO result = employeeService.bulkUpdateEmployees(requestDTO);
+        return ResponseEntity.ok(result);
+    }
+
+    @PostMapping("/offboard")
+    public ResponseEntity<EmployeeOffboardResponseDTO> offboardEmployees(@Valid @RequestBody EmployeeOffboardRequestDTO requestDTO) {
+        EmployeeOffboardResponseDTO result = employeeArchiveService.offboardEmployees(requestDTO);
+        return ResponseEntity.ok(result);
+    }
 }
\ No newline at end of file
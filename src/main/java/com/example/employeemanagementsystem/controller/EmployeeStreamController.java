@@ -0,0 +1,33 @@
+package com.example.employeemanagementsystem.controller;
+
+import com.example.employeemanagementsystem.dto.EmployeeResponseDTO;
+import com.example.employeemanagementsystem.exception.ValidationException;
+import com.example.employeemanagementsystem.service.EmployeeStreamService;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+
+@RestController
+@RequestMapping("/api/stream")
+public class EmployeeStreamController {
+
+    private static final int MAX_BATCH_SIZE = 1000;
+
+    private final EmployeeStreamService employeeStreamService;
+
+    public EmployeeStreamController(EmployeeStreamService employeeStreamService) {
+        this.employeeStreamService = employeeStreamService;
+    }
+
+    // Emits one EmployeeResponseDTO per line (NDJSON) or per event (SSE), depending on the Accept header
+    @GetMapping(value = "/employees", produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.TEXT_EVENT_STREAM_VALUE})
+    public Flux<EmployeeResponseDTO> streamEmployees(@RequestParam(defaultValue = "200") int batchSize) {
+        if (batchSize < 1 || batchSize > MAX_BATCH_SIZE) {
+            throw new ValidationException("batchSize must be between 1 and " + MAX_BATCH_SIZE + ".");
+        }
+        return employeeStreamService.streamEmployees(batchSize);
+    }
+}
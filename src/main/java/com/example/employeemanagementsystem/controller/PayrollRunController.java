@@ -0,0 +1,52 @@
+package com.example.employeemanagementsystem.controller;
+
+import com.example.employeemanagementsystem.dto.PagedResponse;
+import com.example.employeemanagementsystem.dto.PayrollResultDTO;
+import com.example.employeemanagementsystem.dto.PayrollRunProgressDTO;
+import com.example.employeemanagementsystem.dto.PayrollRunResponseDTO;
+import com.example.employeemanagementsystem.service.PayrollRunService;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/payroll-runs")
+public class PayrollRunController {
+
+    private final PayrollRunService payrollRunService;
+
+    public PayrollRunController(PayrollRunService payrollRunService) {
+        this.payrollRunService = payrollRunService;
+    }
+
+    @PostMapping
+    public ResponseEntity<PayrollRunResponseDTO> startPayrollRun() {
+        PayrollRunResponseDTO run = payrollRunService.startPayrollRun();
+        return new ResponseEntity<>(run, HttpStatus.ACCEPTED);
+    }
+
+    @PostMapping("/{id}/resume")
+    public ResponseEntity<PayrollRunResponseDTO> resumePayrollRun(@PathVariable Long id) {
+        PayrollRunResponseDTO run = payrollRunService.resumePayrollRun(id);
+        return new ResponseEntity<>(run, HttpStatus.ACCEPTED);
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<PayrollRunResponseDTO> getPayrollRun(@PathVariable Long id) {
+        return ResponseEntity.ok(payrollRunService.getPayrollRun(id));
+    }
+
+    @GetMapping("/{id}/progress")
+    public ResponseEntity<PayrollRunProgressDTO> getPayrollRunProgress(@PathVariable Long id) {
+        return ResponseEntity.ok(payrollRunService.getPayrollRunProgress(id));
+    }
+
+    @GetMapping("/{id}/results")
+    public ResponseEntity<PagedResponse<PayrollResultDTO>> getPayrollResults(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return ResponseEntity.ok(payrollRunService.getPayrollResults(id, page, size));
+    }
+}
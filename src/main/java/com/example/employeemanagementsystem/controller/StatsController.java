@@ -0,0 +1,25 @@
+package com.example.employeemanagementsystem.controller;
+
+import com.example.employeemanagementsystem.dto.SalaryBandsResponseDTO;
+import com.example.employeemanagementsystem.service.SalaryBandService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/stats")
+public class StatsController {
+
+    private final SalaryBandService salaryBandService;
+
+    public StatsController(SalaryBandService salaryBandService) {
+        this.salaryBandService = salaryBandService;
+    }
+
+    // Served from in-memory sketches; no query runs unless the bands changed since the last call
+    @GetMapping("/salary-bands")
+    public ResponseEntity<SalaryBandsResponseDTO> getSalaryBands() {
+        return ResponseEntity.ok(salaryBandService.getSalaryBands());
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.employeemanagementsystem.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ArchivedEmployeeResponseDTO {
+    private Long id;
+    private String name;
+    private LocalDate dateOfBirth;
+    private BigDecimal salary;
+    private DepartmentLookupDTO department; // As it was at departure
+    private String address;
+    private String role;
+    private LocalDate joiningDate;
+    private Double yearlyBonusPercentage;
+    private Long reportingManagerId;
+    private LocalDate departureDate;
+    private LocalDateTime archivedAt;
+}
@@ -0,0 +1,20 @@
+package com.example.employeemanagementsystem.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkEmployeeFilterDTO {
+    // All criteria are optional and combined with AND; an empty filter matches every employee
+    private Long departmentId;
+    private String role;
+    private Long managerId;
+    private List<Long> employeeIds;
+}
@@ -0,0 +1,20 @@
+package com.example.employeemanagementsystem.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkEmployeeOperationDTO {
+    private BigDecimal salaryChangePercent; // e.g. 3.0 for a 3% raise; exclusive with salaryChangeAmount
+    private BigDecimal salaryChangeAmount; // Absolute change, may be negative
+    private Double yearlyBonusPercentageChange; // Added to the current bonus percentage, may be negative
+    private Long newDepartmentId;
+    private Long newReportingManagerId;
+}
@@ -0,0 +1,24 @@
+package com.example.employeemanagementsystem.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkEmployeeUpdateRequestDTO {
+    @Valid
+    @NotNull(message = "Filter is required")
+    private BulkEmployeeFilterDTO filter;
+
+    @Valid
+    @NotNull(message = "Operation is required")
+    private BulkEmployeeOperationDTO operation;
+
+    private boolean dryRun; // Only report what would change
+}
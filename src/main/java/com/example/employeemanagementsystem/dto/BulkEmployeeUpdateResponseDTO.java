@@ -0,0 +1,22 @@
+package com.example.employeemanagementsystem.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkEmployeeUpdateResponseDTO {
+    private boolean dryRun;
+    private long matchedEmployees;
+    private long updatedEmployees; // 0 for a dry run
+    private List<Long> affectedDepartmentIds;
+    private BigDecimal totalSalaryBefore;
+    private BigDecimal totalSalaryAfter; // Projected for a dry run
+}
@@ -5,6 +5,7 @@ import lombok.Setter;
 import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
 
@@ -17,6 +18,8 @@ public class DepartmentResponseDTO {
     private String name;
     private LocalDate creationDate;
     private EmployeeLookupDTO departmentHead; // Using lookup DTO for simplicity
+    private Long headcount;
+    private BigDecimal totalSalary;
     private List<EmployeeResponseDTO> employees; // For expand=employee
 
     public DepartmentResponseDTO(Long id, String name, LocalDate creationDate, EmployeeLookupDTO departmentHead) {
@@ -0,0 +1,29 @@
+package com.example.employeemanagementsystem.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeeHistoryDTO {
+    private Long employeeId;
+    private String name;
+    private LocalDate dateOfBirth;
+    private BigDecimal salary;
+    private DepartmentLookupDTO department;
+    private String address;
+    private String role;
+    private LocalDate joiningDate;
+    private Double yearlyBonusPercentage;
+    private EmployeeLookupDTO reportingManager;
+    private LocalDateTime validFrom;
+    private LocalDateTime validTo; // Null for the current version
+}
@@ -0,0 +1,21 @@
+package com.example.employeemanagementsystem.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeeOffboardRequestDTO {
+    @NotEmpty(message = "At least one employee ID is required")
+    private List<Long> employeeIds;
+
+    private LocalDate departureDate; // Optional, defaults to today
+}
@@ -0,0 +1,19 @@
+package com.example.employeemanagementsystem.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeeOffboardResponseDTO {
+    private int archivedEmployees;
+    private int reparentedReports;
+    private int clearedDepartmentHeads;
+    private List<Long> notFoundEmployeeIds;
+}
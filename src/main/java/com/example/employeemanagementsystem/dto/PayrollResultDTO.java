@@ -0,0 +1,19 @@
+package com.example.employeemanagementsystem.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class PayrollResultDTO {
+    private Long employeeId;
+    private BigDecimal salary;
+    private Double bonusPercentage;
+    private BigDecimal bonusAmount;
+}
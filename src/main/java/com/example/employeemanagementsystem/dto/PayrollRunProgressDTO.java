@@ -0,0 +1,21 @@
+package com.example.employeemanagementsystem.dto;
+
+import com.example.employeemanagementsystem.entity.PayrollRunStatus;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class PayrollRunProgressDTO {
+    private Long runId;
+    private PayrollRunStatus status;
+    private Integer totalChunks;
+    private Long completedChunks;
+    private Long totalEmployees;
+    private Long processedEmployees;
+    private Double percentComplete;
+}
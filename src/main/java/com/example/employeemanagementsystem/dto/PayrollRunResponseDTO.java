@@ -0,0 +1,24 @@
+package com.example.employeemanagementsystem.dto;
+
+import com.example.employeemanagementsystem.entity.PayrollRunStatus;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class PayrollRunResponseDTO {
+    private Long id;
+    private PayrollRunStatus status;
+    private LocalDateTime createdAt;
+    private LocalDateTime completedAt;
+    private Long totalEmployees;
+    private Integer chunkSize;
+    private Integer totalChunks;
+    private String failureMessage;
+}
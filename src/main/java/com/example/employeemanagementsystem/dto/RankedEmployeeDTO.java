@@ -0,0 +1,23 @@
+package com.example.employeemanagementsystem.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class RankedEmployeeDTO {
+    private int rank; // 1-based position within the group
+    private Long id;
+    private String name;
+    private String role;
+    private DepartmentLookupDTO department;
+    private BigDecimal salary;
+    private LocalDate joiningDate;
+}
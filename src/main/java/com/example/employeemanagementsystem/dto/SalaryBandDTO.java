@@ -0,0 +1,23 @@
+package com.example.employeemanagementsystem.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class SalaryBandDTO {
+    private String group; // Role, or department name ("Unassigned" for employees without a department)
+    private Long departmentId; // Only for department bands
+    private long count;
+    private BigDecimal p10;
+    private BigDecimal p25;
+    private BigDecimal p50;
+    private BigDecimal p75;
+    private BigDecimal p90;
+}
@@ -0,0 +1,19 @@
+package com.example.employeemanagementsystem.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class SalaryBandsResponseDTO {
+    private double relativeAccuracy; // Each percentile is within this fraction of the exact value
+    private List<SalaryBandDTO> roles = new ArrayList<>();
+    private List<SalaryBandDTO> departments = new ArrayList<>();
+}
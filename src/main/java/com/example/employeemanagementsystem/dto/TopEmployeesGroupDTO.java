@@ -0,0 +1,19 @@
+package com.example.employeemanagementsystem.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TopEmployeesGroupDTO {
+    private String group; // Role, or department name ("Unassigned" for employees without a department)
+    private Long departmentId; // Only when grouping by department
+    private List<RankedEmployeeDTO> employees = new ArrayList<>();
+}
@@ -0,0 +1,20 @@
+package com.example.employeemanagementsystem.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+import java.time.LocalDate;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class UpcomingEventDTO {
+    private Long employeeId;
+    private String name;
+    private String type; // "birthday" or "anniversary"
+    private LocalDate date; // Next occurrence; Feb 29 falls on Feb 28 in non-leap years
+    private int years; // Age being turned, or years of service being completed
+}
@@ -0,0 +1,60 @@
+package com.example.employeemanagementsystem.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+// Departed employees, moved out of the employees table by EmployeeArchiveService.
+// Keeps the original employee ID; department and manager are stored as plain values since
+// the referenced rows may themselves be archived or deleted later.
+@Entity
+@Table(name = "employees_archive")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ArchivedEmployee {
+    @Id
+    private Long id;
+
+    @Column(nullable = false)
+    private String name;
+
+    @Column(name = "date_of_birth", nullable = false)
+    private LocalDate dateOfBirth;
+
+    @Column(nullable = false)
+    private BigDecimal salary;
+
+    @Column(name = "department_id")
+    private Long departmentId;
+
+    @Column(name = "department_name")
+    private String departmentName;
+
+    private String address;
+
+    @Column(nullable = false)
+    private String role;
+
+    @Column(name = "joining_date", nullable = false)
+    private LocalDate joiningDate;
+
+    @Column(name = "yearly_bonus_percentage", nullable = false)
+    private Double yearlyBonusPercentage;
+
+    @Column(name = "reporting_manager_id")
+    private Long reportingManagerId;
+
+    @Column(name = "departure_date", nullable = false)
+    private LocalDate departureDate;
+
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+}
@@ -7,6 +7,7 @@ import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.HashSet;
 import java.util.Set;
@@ -34,6 +35,15 @@ public class Department {
 	@JoinColumn(name = "head_employee_id")
 	private Employee departmentHead;
 
+	// Denormalized totals over the department's employees, maintained by EmployeeService
+	// and periodically checked by DepartmentTotalsReconciler. Only written by the single-statement
+	// updates in DepartmentRepository, so saving a stale Department never overwrites a concurrent increment
+	@Column(nullable = false, updatable = false)
+	private Long headcount = 0L;
+
+	@Column(name = "total_salary", nullable = false, updatable = false)
+	private BigDecimal totalSalary = BigDecimal.ZERO;
+
 	@JsonIgnore // Prevent infinite recursion when fetching departments that also fetch
 				// employees
 	@OneToMany(mappedBy = "department", cascade = CascadeType.ALL, orphanRemoval = true)
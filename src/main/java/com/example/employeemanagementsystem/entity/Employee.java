@@ -11,7 +11,10 @@ import java.math.BigDecimal;
 import com.fasterxml.jackson.annotation.JsonBackReference;
 
 @Entity
-@Table(name = "employees")
+@Table(name = "employees", indexes = {
+        @Index(name = "idx_employees_birth_day_of_year", columnList = "birth_day_of_year"),
+        @Index(name = "idx_employees_joining_day_of_year", columnList = "joining_day_of_year")
+})
 @Getter
 @Setter
 @NoArgsConstructor // Lombok generates a no-argument constructor
@@ -53,10 +56,33 @@ public class Employee {
     @Transient
     private String reportingManagerName;
 
+    // Day of year of dateOfBirth/joiningDate as if in a leap year (Feb 29 = 60, Mar 1 = 61 every year),
+    // maintained from the dates so upcoming birthdays/anniversaries are an indexed range lookup
+    @Column(name = "birth_day_of_year")
+    private Integer birthDayOfYear;
+
+    @Column(name = "joining_day_of_year")
+    private Integer joiningDayOfYear;
+
     @PrePersist
     protected void onCreate() {
         if (joiningDate == null) {
             joiningDate = LocalDate.now();
         }
+        indexDaysOfYear();
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        indexDaysOfYear();
+    }
+
+    public void indexDaysOfYear() {
+        birthDayOfYear = dateOfBirth != null ? leapYearDayOfYear(dateOfBirth) : null;
+        joiningDayOfYear = joiningDate != null ? leapYearDayOfYear(joiningDate) : null;
+    }
+
+    public static int leapYearDayOfYear(LocalDate date) {
+        return LocalDate.of(2000, date.getMonth(), date.getDayOfMonth()).getDayOfYear();
     }
 }
\ No newline at end of file
@@ -0,0 +1,76 @@
+package com.example.employeemanagementsystem.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+// One version of an employee's record, valid over [validFrom, validTo). A change appends a new
+// version and closes the previous one; the current version has validTo = OPEN_END (rather than
+// NULL) so "as of" lookups are a plain range condition on the validity indexes. That condition
+// (validTo >= cutoff) still matches every open version, so an "as of" page over an old date reads
+// all current employees' versions plus the ones closed since.
+// (employee_id, valid_to) is unique: each employee has at most one open version.
+// Department and manager are stored as plain values, as recorded when the version was written.
+@Entity
+@Table(name = "employee_history", indexes = {
+        @Index(name = "idx_employee_history_employee", columnList = "employee_id, valid_from"),
+        @Index(name = "idx_employee_history_validity", columnList = "valid_to, valid_from")
+}, uniqueConstraints = @UniqueConstraint(name = "uk_employee_history_employee_valid_to", columnNames = {"employee_id", "valid_to"}))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeeHistory {
+    public static final LocalDateTime OPEN_END = LocalDateTime.of(9999, 12, 31, 0, 0);
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "employee_id", nullable = false)
+    private Long employeeId;
+
+    @Column(nullable = false)
+    private String name;
+
+    @Column(name = "date_of_birth", nullable = false)
+    private LocalDate dateOfBirth;
+
+    @Column(nullable = false)
+    private BigDecimal salary;
+
+    @Column(name = "department_id")
+    private Long departmentId;
+
+    @Column(name = "department_name")
+    private String departmentName;
+
+    private String address;
+
+    @Column(nullable = false)
+    private String role;
+
+    @Column(name = "joining_date", nullable = false)
+    private LocalDate joiningDate;
+
+    @Column(name = "yearly_bonus_percentage", nullable = false)
+    private Double yearlyBonusPercentage;
+
+    @Column(name = "reporting_manager_id")
+    private Long reportingManagerId;
+
+    @Column(name = "reporting_manager_name")
+    private String reportingManagerName;
+
+    @Column(name = "valid_from", nullable = false)
+    private LocalDateTime validFrom;
+
+    @Column(name = "valid_to", nullable = false)
+    private LocalDateTime validTo;
+}
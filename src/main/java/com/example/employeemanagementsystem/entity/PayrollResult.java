@@ -0,0 +1,36 @@
+package com.example.employeemanagementsystem.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+import java.math.BigDecimal;
+
+// Plain ID columns rather than associations: rows are bulk inserted over JDBC by the payroll workers
+@Entity
+@Table(name = "payroll_results")
+@IdClass(PayrollResultId.class)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class PayrollResult {
+    @Id
+    @Column(name = "run_id")
+    private Long runId;
+
+    @Id
+    @Column(name = "employee_id")
+    private Long employeeId;
+
+    @Column(nullable = false, precision = 19, scale = 2)
+    private BigDecimal salary;
+
+    @Column(name = "bonus_percentage", nullable = false)
+    private Double bonusPercentage;
+
+    @Column(name = "bonus_amount", nullable = false, precision = 19, scale = 2)
+    private BigDecimal bonusAmount;
+}
@@ -0,0 +1,19 @@
+package com.example.employeemanagementsystem.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.io.Serializable;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class PayrollResultId implements Serializable {
+    private Long runId;
+    private Long employeeId;
+}
@@ -0,0 +1,65 @@
+package com.example.employeemanagementsystem.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "payroll_runs")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class PayrollRun {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private PayrollRunStatus status;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
+    // Snapshot of the employee ID range taken when the run starts. Chunk N covers
+    // [minEmployeeId + N * chunkSize, minEmployeeId + (N + 1) * chunkSize), so chunk boundaries
+    // are stable across restarts and employees created mid-run are not picked up.
+    @Column(name = "min_employee_id")
+    private Long minEmployeeId;
+
+    @Column(name = "max_employee_id")
+    private Long maxEmployeeId;
+
+    @Column(name = "chunk_size", nullable = false)
+    private Integer chunkSize;
+
+    @Column(name = "total_chunks", nullable = false)
+    private Integer totalChunks;
+
+    @Column(name = "total_employees", nullable = false)
+    private Long totalEmployees;
+
+    @Column(name = "failure_message", length = 1000)
+    private String failureMessage;
+
+    // TRUE while the run is RUNNING, NULL otherwise. The unique key lets the database admit only one
+    // running run at a time (NULLs never collide), however many requests try to start one at once.
+    @Setter(AccessLevel.NONE)
+    @Column(name = "running_guard", unique = true)
+    private Boolean runningGuard;
+
+    @PrePersist
+    @PreUpdate
+    void syncRunningGuard() {
+        runningGuard = status == PayrollRunStatus.RUNNING ? Boolean.TRUE : null;
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.employeemanagementsystem.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// Checkpoint row written in the same transaction as a chunk's payroll results.
+// On resume, chunks that already have a row are skipped.
+@Entity
+@Table(name = "payroll_run_chunks")
+@IdClass(PayrollRunChunkId.class)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class PayrollRunChunk {
+    @Id
+    @Column(name = "run_id")
+    private Long runId;
+
+    @Id
+    @Column(name = "chunk_index")
+    private Integer chunkIndex;
+
+    @Column(name = "employee_count", nullable = false)
+    private Integer employeeCount;
+
+    @Column(name = "completed_at", nullable = false)
+    private LocalDateTime completedAt;
+}
@@ -0,0 +1,7 @@
+package com.example.employeemanagementsystem.entity;
+
+public enum PayrollRunStatus {
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
@@ -0,0 +1,16 @@
+package com.example.employeemanagementsystem.exception;
+
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@Getter
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+public class AdmissionRejectedException extends RuntimeException {
+    private final int retryAfterSeconds;
+
+    public AdmissionRejectedException(String message, int retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
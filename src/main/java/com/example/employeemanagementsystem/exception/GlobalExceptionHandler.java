@@ -1,10 +1,17 @@
 package com.example.employeemanagementsystem.exception;
 
+import com.example.employeemanagementsystem.config.RequestDeadline;
+import com.example.employeemanagementsystem.config.RequestDeadlineInterceptor;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.TransactionTimedOutException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.context.request.RequestAttributes;
 import org.springframework.web.context.request.WebRequest;
 
 import java.time.LocalDateTime;
@@ -14,6 +21,12 @@ import java.util.Map;
 @ControllerAdvice
 public class GlobalExceptionHandler {
 
+    private final MeterRegistry meterRegistry;
+
+    public GlobalExceptionHandler(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
     @ExceptionHandler(ResourceNotFoundException.class)
     public ResponseEntity<ErrorResponse> handleResourceNotFoundException(ResourceNotFoundException ex, WebRequest request) {
         ErrorResponse errorDetails = new ErrorResponse(
@@ -38,6 +51,41 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(errorDetails, HttpStatus.BAD_REQUEST);
     }
 
+    @ExceptionHandler(AdmissionRejectedException.class)
+    public ResponseEntity<ErrorResponse> handleAdmissionRejectedException(AdmissionRejectedException ex, WebRequest request) {
+        ErrorResponse errorDetails = new ErrorResponse(
+                LocalDateTime.now(),
+                HttpStatus.SERVICE_UNAVAILABLE.value(),
+                HttpStatus.SERVICE_UNAVAILABLE.getReasonPhrase(),
+                ex.getMessage(),
+                request.getDescription(false)
+        );
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(errorDetails);
+    }
+
+    // Work cancelled because the request's deadline passed: either at a checkpoint between steps, or in
+    // the database through the query/transaction timeouts derived from the deadline (see RequestDeadline)
+    @ExceptionHandler({DeadlineExceededException.class, QueryTimeoutException.class,
+            jakarta.persistence.QueryTimeoutException.class, TransactionTimedOutException.class})
+    public ResponseEntity<ErrorResponse> handleDeadlineExceeded(Exception ex, WebRequest request) {
+        String stage = ex instanceof DeadlineExceededException ? "checkpoint" : "database";
+        Object deadline = request.getAttribute(RequestDeadlineInterceptor.DEADLINE_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        String endpoint = deadline instanceof RequestDeadline requestDeadline ? requestDeadline.getEndpoint() : "none";
+        meterRegistry.counter("request.deadline.cancelled", "endpoint", endpoint, "stage", stage).increment();
+
+        ErrorResponse errorDetails = new ErrorResponse(
+                LocalDateTime.now(),
+                HttpStatus.GATEWAY_TIMEOUT.value(),
+                "Deadline Exceeded",
+                ex instanceof DeadlineExceededException ? ex.getMessage()
+                        : "The request deadline passed while querying the database; the query was cancelled.",
+                request.getDescription(false)
+        );
+        return new ResponseEntity<>(errorDetails, HttpStatus.GATEWAY_TIMEOUT);
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<Object> handleMethodArgumentNotValid(MethodArgumentNotValidException ex, WebRequest request) {
         Map<String, String> errors = new HashMap<>();
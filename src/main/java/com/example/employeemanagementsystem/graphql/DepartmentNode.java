@@ -0,0 +1,9 @@
+package com.example.employeemanagementsystem.graphql;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+// Flat department row for the GraphQL API; see EmployeeNode
+public record DepartmentNode(Long id, String name, LocalDate creationDate, Long headcount, BigDecimal totalSalary,
+                             Long departmentHeadId) {
+}
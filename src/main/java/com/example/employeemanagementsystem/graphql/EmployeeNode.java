@@ -0,0 +1,11 @@
+package com.example.employeemanagementsystem.graphql;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+// Flat employee row for the GraphQL API. Associations are carried as foreign keys and resolved
+// level by level by OrgGraphController's batch mappings, never by lazy loading.
+public record EmployeeNode(Long id, String name, LocalDate dateOfBirth, BigDecimal salary, String address,
+                           String role, LocalDate joiningDate, Double yearlyBonusPercentage,
+                           Long departmentId, Long reportingManagerId) {
+}
@@ -0,0 +1,144 @@
+package com.example.employeemanagementsystem.graphql;
+
+import com.example.employeemanagementsystem.exception.DeadlineExceededException;
+import com.example.employeemanagementsystem.exception.ValidationException;
+import com.example.employeemanagementsystem.service.OrgGraphService;
+import graphql.ErrorClassification;
+import graphql.GraphQLError;
+import graphql.schema.DataFetchingEnvironment;
+import org.dataloader.DataLoader;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.graphql.data.method.annotation.Argument;
+import org.springframework.graphql.data.method.annotation.BatchMapping;
+import org.springframework.graphql.data.method.annotation.GraphQlExceptionHandler;
+import org.springframework.graphql.data.method.annotation.QueryMapping;
+import org.springframework.graphql.data.method.annotation.SchemaMapping;
+import org.springframework.graphql.execution.BatchLoaderRegistry;
+import org.springframework.graphql.execution.ErrorType;
+import org.springframework.stereotype.Controller;
+import org.springframework.transaction.TransactionTimedOutException;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// GraphQL resolvers for schema.graphqls. Every association field is batched: Spring for
+// GraphQL collects the parents of one level into a DataLoader batch, so e.g. the reporting
+// managers of all employees in a response are loaded with one IN query, not one per employee.
+// Department.employees and Employee.directReports take a `first` argument, which a @BatchMapping
+// cannot see, so they go through named DataLoaders registered here instead.
+@Controller
+public class OrgGraphController {
+
+    private static final ErrorClassification DEADLINE_EXCEEDED = ErrorClassification.errorClassification("DEADLINE_EXCEEDED");
+    private static final String DEPARTMENT_EMPLOYEES = "Department.employees";
+    private static final String DIRECT_REPORTS = "Employee.directReports";
+
+    private final OrgGraphService orgGraphService;
+
+    public OrgGraphController(OrgGraphService orgGraphService, BatchLoaderRegistry batchLoaderRegistry) {
+        this.orgGraphService = orgGraphService;
+        batchLoaderRegistry.<Long, List<EmployeeNode>>forName(DEPARTMENT_EMPLOYEES)
+                .registerMappedBatchLoader((departmentIds, environment) ->
+                        Mono.fromCallable(() -> orgGraphService.findEmployeesByDepartmentIds(departmentIds)));
+        batchLoaderRegistry.<Long, List<EmployeeNode>>forName(DIRECT_REPORTS)
+                .registerMappedBatchLoader((managerIds, environment) ->
+                        Mono.fromCallable(() -> orgGraphService.findDirectReports(managerIds)));
+    }
+
+    @QueryMapping
+    public DepartmentNode department(@Argument Long id) {
+        return orgGraphService.findDepartmentsByIds(List.of(id)).get(id);
+    }
+
+    @QueryMapping
+    public List<DepartmentNode> departments(@Argument int page, @Argument int size) {
+        return orgGraphService.getDepartments(page, size);
+    }
+
+    @QueryMapping
+    public EmployeeNode employee(@Argument Long id) {
+        return orgGraphService.findEmployeesByIds(List.of(id)).get(id);
+    }
+
+    @QueryMapping
+    public List<EmployeeNode> employees(@Argument int page, @Argument int size) {
+        return orgGraphService.getEmployees(page, size);
+    }
+
+    @BatchMapping(typeName = "Department", field = "departmentHead")
+    public Map<DepartmentNode, EmployeeNode> departmentHead(List<DepartmentNode> departments) {
+        Map<Long, EmployeeNode> heads = orgGraphService.findEmployeesByIds(keys(departments, DepartmentNode::departmentHeadId));
+        return byParent(departments, department -> heads.get(department.departmentHeadId()));
+    }
+
+    @SchemaMapping(typeName = "Department", field = "employees")
+    public CompletableFuture<List<EmployeeNode>> departmentEmployees(DepartmentNode department, @Argument int first,
+                                                                     DataFetchingEnvironment environment) {
+        return firstOf(environment.<Long, List<EmployeeNode>>getDataLoader(DEPARTMENT_EMPLOYEES), department.id(), first);
+    }
+
+    @BatchMapping(typeName = "Employee", field = "department")
+    public Map<EmployeeNode, DepartmentNode> employeeDepartment(List<EmployeeNode> employees) {
+        Map<Long, DepartmentNode> departments = orgGraphService.findDepartmentsByIds(keys(employees, EmployeeNode::departmentId));
+        return byParent(employees, employee -> departments.get(employee.departmentId()));
+    }
+
+    @BatchMapping(typeName = "Employee", field = "reportingManager")
+    public Map<EmployeeNode, EmployeeNode> reportingManager(List<EmployeeNode> employees) {
+        Map<Long, EmployeeNode> managers = orgGraphService.findEmployeesByIds(keys(employees, EmployeeNode::reportingManagerId));
+        return byParent(employees, employee -> managers.get(employee.reportingManagerId()));
+    }
+
+    @SchemaMapping(typeName = "Employee", field = "directReports")
+    public CompletableFuture<List<EmployeeNode>> directReports(EmployeeNode employee, @Argument int first,
+                                                               DataFetchingEnvironment environment) {
+        return firstOf(environment.<Long, List<EmployeeNode>>getDataLoader(DIRECT_REPORTS), employee.id(), first);
+    }
+
+    @GraphQlExceptionHandler
+    public GraphQLError handleValidationException(ValidationException ex) {
+        return GraphQLError.newError().errorType(ErrorType.BAD_REQUEST).message(ex.getMessage()).build();
+    }
+
+    // Resolvers run under the HTTP request's deadline (see RequestDeadlineInterceptor), like the REST endpoints
+    @GraphQlExceptionHandler({DeadlineExceededException.class, QueryTimeoutException.class,
+            jakarta.persistence.QueryTimeoutException.class, TransactionTimedOutException.class})
+    public GraphQLError handleDeadlineExceeded(Exception ex) {
+        return GraphQLError.newError().errorType(DEADLINE_EXCEEDED)
+                .message("The request deadline passed before this field was resolved.").build();
+    }
+
+    // The whole list is loaded in the level's batch, but only the first children are returned, so
+    // the next level is resolved for those alone
+    private static CompletableFuture<List<EmployeeNode>> firstOf(DataLoader<Long, List<EmployeeNode>> loader, Long parentId, int first) {
+        if (first < 0 || first > OrgGraphService.MAX_PAGE_SIZE) {
+            throw new ValidationException("first must be between 0 and " + OrgGraphService.MAX_PAGE_SIZE + ".");
+        }
+        return loader.load(parentId).thenApply(children ->
+                children == null ? List.of() : children.subList(0, Math.min(first, children.size())));
+    }
+
+    private static <T> Set<Long> keys(Collection<T> parents, Function<T, Long> key) {
+        return parents.stream().map(key).filter(Objects::nonNull).collect(Collectors.toSet());
+    }
+
+    // Parents without a child are left out, which resolves the field to null
+    private static <P, C> Map<P, C> byParent(List<P> parents, Function<P, C> child) {
+        Map<P, C> result = new LinkedHashMap<>();
+        for (P parent : parents) {
+            C value = child.apply(parent);
+            if (value != null) {
+                result.put(parent, value);
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.employeemanagementsystem.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+
+// Entity -> DTO mapping of a whole list. Mapping is private to the services, so it is recorded
+// explicitly rather than by JfrEventAspect.
+@Name("com.example.employeemanagementsystem.DtoMapping")
+@Label("DTO Mapping")
+@Category({"Employee Management System", "Mapping"})
+public class DtoMappingEvent extends OperationEvent {
+
+    public static <S, T> List<T> mapAll(String mapping, Collection<S> source, Function<? super S, ? extends T> mapper) {
+        DtoMappingEvent event = new DtoMappingEvent();
+        if (!event.isEnabled()) {
+            return map(source, mapper);
+        }
+        event.start();
+        List<T> mapped = map(source, mapper);
+        if (event.stop()) {
+            event.operation = mapping;
+            event.rowCount = mapped.size();
+            event.commit();
+        }
+        return mapped;
+    }
+
+    private static <S, T> List<T> map(Collection<S> source, Function<? super S, ? extends T> mapper) {
+        List<T> mapped = new ArrayList<>(source.size());
+        for (S element : source) {
+            mapped.add(mapper.apply(element));
+        }
+        return mapped;
+    }
+}
@@ -0,0 +1,149 @@
+package com.example.employeemanagementsystem.jfr;
+
+import com.example.employeemanagementsystem.dto.PagedResponse;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.repository.Repository;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+// Wraps every public service method and every repository call in a Flight Recorder event.
+// Outermost advice, so service events include the transaction commit. Arguments and results are
+// only inspected for events that will actually be committed.
+// Opt-in (app.jfr.events.enabled): even with no recording running, every intercepted call goes
+// through the advice chain and allocates its join point, argument array and event.
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@ConditionalOnProperty(name = "app.jfr.events.enabled", havingValue = "true")
+public class JfrEventAspect {
+
+    private static final int MAX_RECORDED_IDS = 16;
+    private static final Set<String> PAGE_SIZE_PARAMETERS = Set.of("size", "pageSize", "batchSize", "limit");
+
+    @Around("execution(public * com.example.employeemanagementsystem.service..*.*(..))")
+    public Object recordServiceOperation(ProceedingJoinPoint joinPoint) throws Throwable {
+        return record(new ServiceOperationEvent(), joinPoint);
+    }
+
+    // Spring Data proxies also run the methods inherited from CrudRepository and friends
+    @Around("execution(* com.example.employeemanagementsystem.repository..*.*(..)) " +
+            "|| this(org.springframework.data.repository.Repository)")
+    public Object recordRepositoryCall(ProceedingJoinPoint joinPoint) throws Throwable {
+        return record(new RepositoryCallEvent(), joinPoint);
+    }
+
+    private static Object record(OperationEvent event, ProceedingJoinPoint joinPoint) throws Throwable {
+        if (!event.isEnabled()) {
+            return joinPoint.proceed();
+        }
+        event.start();
+        Object result = null;
+        try {
+            result = joinPoint.proceed();
+            return result;
+        } finally {
+            if (event.stop()) {
+                describe(event, joinPoint, result);
+                event.commit();
+            }
+        }
+    }
+
+    private static void describe(OperationEvent event, ProceedingJoinPoint joinPoint, Object result) {
+        MethodSignature signature = (MethodSignature) joinPoint.getSignature();
+        event.operation = typeName(joinPoint) + "." + signature.getName();
+
+        String[] parameterNames = signature.getParameterNames();
+        Object[] args = joinPoint.getArgs();
+        StringBuilder ids = new StringBuilder();
+        int idCount = 0;
+        for (int i = 0; i < args.length; i++) {
+            Object arg = args[i];
+            if (arg instanceof Long id) {
+                idCount = appendId(ids, idCount, id);
+            } else if (arg instanceof Collection<?> collection) {
+                for (Object element : collection) {
+                    if (element instanceof Long id) {
+                        idCount = appendId(ids, idCount, id);
+                    }
+                }
+            } else if (arg instanceof Pageable pageable && pageable.isPaged()) {
+                event.pageSize = pageable.getPageSize();
+            } else if (arg instanceof Limit limit && limit.isLimited()) {
+                event.pageSize = limit.max();
+            } else if (arg instanceof Integer size && parameterNames != null
+                    && PAGE_SIZE_PARAMETERS.contains(parameterNames[i])) {
+                event.pageSize = size;
+            }
+        }
+        if (idCount > MAX_RECORDED_IDS) {
+            ids.append(",...(").append(idCount).append(" in total)");
+        }
+        event.entityIds = ids.length() > 0 ? ids.toString() : null;
+        event.rowCount = rowCount(result);
+    }
+
+    private static int appendId(StringBuilder ids, int idCount, Long id) {
+        if (idCount < MAX_RECORDED_IDS) {
+            if (idCount > 0) {
+                ids.append(',');
+            }
+            ids.append(id.longValue());
+        }
+        return idCount + 1;
+    }
+
+    // Spring Data proxies declare most methods on generic interfaces: name the application's repository
+    private static String typeName(ProceedingJoinPoint joinPoint) {
+        if (joinPoint.getThis() instanceof Repository<?, ?>) {
+            Class<?>[] interfaces = AopProxyUtils.proxiedUserInterfaces(joinPoint.getThis());
+            if (interfaces.length > 0) {
+                return interfaces[0].getSimpleName();
+            }
+        }
+        return joinPoint.getSignature().getDeclaringType().getSimpleName();
+    }
+
+    // Integers are the row counts of UPDATE/DELETE statements; other numbers (counts, sums) are not rows
+    private static long rowCount(Object result) {
+        if (result == null) {
+            return 0;
+        }
+        if (result instanceof Collection<?> collection) {
+            return collection.size();
+        }
+        if (result instanceof Map<?, ?> map) {
+            return map.size();
+        }
+        if (result instanceof Slice<?> slice) {
+            return slice.getNumberOfElements();
+        }
+        if (result instanceof PagedResponse<?> page) {
+            return page.getContent().size();
+        }
+        if (result instanceof Optional<?> optional) {
+            return optional.isPresent() ? 1 : 0;
+        }
+        if (result instanceof Integer updated) {
+            return updated;
+        }
+        if (result instanceof Number || result instanceof Boolean) {
+            return 0;
+        }
+        return 1;
+    }
+}
@@ -0,0 +1,157 @@
+package com.example.employeemanagementsystem.jfr;
+
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.OptionalParameter;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+// On-demand Flight Recorder captures:
+//   POST /actuator/jfr {"durationSeconds": 120, "thresholdMs": 5}  starts a recording
+//   GET  /actuator/jfr                                              describes the current recording
+//   GET  /actuator/jfr/{id}                                         downloads it as a .jfr file
+// A recording uses the JDK's "profile" settings plus this application's events, and stops on its own
+// after its duration (at most app.jfr.recording.max-duration-seconds). It can be downloaded while still
+// running. Only one is kept: starting a new recording closes the previous one.
+// Events that would copy the process environment, system properties, JVM arguments or the host's
+// process list into the file are disabled: a recording is meant to be handed around for analysis.
+@Component
+@Endpoint(id = "jfr")
+public class JfrRecordingEndpoint {
+
+    private static final String RECORDING_NAME = "employee-management-system";
+    private static final List<String> SENSITIVE_EVENTS = List.of(
+            "jdk.InitialEnvironmentVariable",
+            "jdk.InitialSystemProperty",
+            "jdk.JVMInformation",
+            "jdk.SystemProcess");
+
+    private final long defaultDurationSeconds;
+    private final long maxDurationSeconds;
+
+    // Guarded by this
+    private Recording recording;
+
+    public JfrRecordingEndpoint(@Value("${app.jfr.recording.default-duration-seconds:60}") long defaultDurationSeconds,
+                                @Value("${app.jfr.recording.max-duration-seconds:600}") long maxDurationSeconds) {
+        this.defaultDurationSeconds = defaultDurationSeconds;
+        this.maxDurationSeconds = maxDurationSeconds;
+    }
+
+    // thresholdMs drops application events shorter than that (default: record every call)
+    @WriteOperation
+    public synchronized RecordingDescriptor start(@OptionalParameter Long durationSeconds,
+                                                  @OptionalParameter Long thresholdMs) throws IOException, ParseException {
+        long seconds = durationSeconds != null ? durationSeconds : defaultDurationSeconds;
+        if (seconds <= 0 || seconds > maxDurationSeconds) {
+            throw new InvalidEndpointRequestException("durationSeconds must be between 1 and " + maxDurationSeconds,
+                    "Invalid recording duration");
+        }
+        if (thresholdMs != null && thresholdMs < 0) {
+            throw new InvalidEndpointRequestException("thresholdMs cannot be negative", "Invalid event threshold");
+        }
+
+        if (recording != null) {
+            recording.close();
+        }
+        Recording started = new Recording(Configuration.getConfiguration("profile"));
+        started.setName(RECORDING_NAME);
+        SENSITIVE_EVENTS.forEach(started::disable);
+        if (thresholdMs != null) {
+            Duration threshold = Duration.ofMillis(thresholdMs);
+            started.enable(ServiceOperationEvent.class).withThreshold(threshold);
+            started.enable(RepositoryCallEvent.class).withThreshold(threshold);
+            started.enable(DtoMappingEvent.class).withThreshold(threshold);
+        }
+        started.setToDisk(true);
+        started.setDuration(Duration.ofSeconds(seconds));
+        started.start();
+        recording = started;
+        return describe(started);
+    }
+
+    @ReadOperation
+    public synchronized RecordingDescriptor current() {
+        return recording != null ? describe(recording) : null; // null answers 404
+    }
+
+    @ReadOperation(produces = "application/octet-stream")
+    public synchronized WebEndpointResponse<Resource> dump(@Selector long id) throws IOException {
+        if (recording == null || recording.getId() != id) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND);
+        }
+        Path file = Files.createTempFile(RECORDING_NAME + "-" + id + "-", ".jfr");
+        try {
+            recording.dump(file);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(file);
+            throw e;
+        }
+        return new WebEndpointResponse<>(new TemporaryFileResource(file));
+    }
+
+    @PreDestroy
+    public synchronized void close() {
+        if (recording != null) {
+            recording.close();
+            recording = null;
+        }
+    }
+
+    private static RecordingDescriptor describe(Recording recording) {
+        return new RecordingDescriptor(recording.getId(), recording.getState(), recording.getStartTime(),
+                recording.getDuration() != null ? recording.getDuration().toSeconds() : 0,
+                recording.getState() == RecordingState.RUNNING ? null : recording.getStopTime());
+    }
+
+    public record RecordingDescriptor(long id, RecordingState state, Instant startTime, long durationSeconds,
+                                      Instant stopTime) {
+    }
+
+    // The dump is deleted once it has been streamed to the client
+    private static final class TemporaryFileResource extends FileSystemResource {
+
+        private TemporaryFileResource(Path file) {
+            super(file);
+        }
+
+        @Override
+        public InputStream getInputStream() throws IOException {
+            return new FilterInputStream(super.getInputStream()) {
+                @Override
+                public void close() throws IOException {
+                    try {
+                        super.close();
+                    } finally {
+                        Files.deleteIfExists(getFile().toPath());
+                    }
+                }
+            };
+        }
+
+        @Override
+        public boolean isFile() {
+            return false; // Keeps converters on getInputStream() instead of transferring the file directly
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.employeemanagementsystem.jfr;
+
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+
+import java.lang.management.ManagementFactory;
+
+// Fields shared by the application's Flight Recorder events; the event's own duration is the
+// operation's wall time. Subclasses only add a name and category.
+// Callers check isEnabled() first, so a disabled event is never described or committed. That does not
+// make recording free: see JfrEventAspect for what the interception itself costs.
+@StackTrace(false)
+public abstract class OperationEvent extends Event {
+
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    @Label("Operation")
+    @Description("Class and method, e.g. EmployeeService.getAllEmployees")
+    String operation;
+
+    @Label("Entity IDs")
+    @Description("ID arguments, comma separated and truncated")
+    String entityIds;
+
+    @Label("Page Size")
+    int pageSize;
+
+    @Label("Row Count")
+    @Description("Elements returned, or rows written by an update")
+    long rowCount;
+
+    @Label("Allocated")
+    @Description("Bytes allocated by this thread during the operation")
+    @DataAmount
+    long allocated;
+
+    private transient long allocatedAtStart;
+
+    void start() {
+        allocatedAtStart = THREADS.getCurrentThreadAllocatedBytes();
+        begin();
+    }
+
+    // Ends the event; true when it passed the recording's threshold and should be filled in and committed
+    boolean stop() {
+        end();
+        if (!shouldCommit()) {
+            return false;
+        }
+        allocated = THREADS.getCurrentThreadAllocatedBytes() - allocatedAtStart;
+        return true;
+    }
+}
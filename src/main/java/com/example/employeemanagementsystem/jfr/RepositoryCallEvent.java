@@ -0,0 +1,11 @@
+package com.example.employeemanagementsystem.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("com.example.employeemanagementsystem.RepositoryCall")
+@Label("Repository Call")
+@Category({"Employee Management System", "Repository"})
+public class RepositoryCallEvent extends OperationEvent {
+}
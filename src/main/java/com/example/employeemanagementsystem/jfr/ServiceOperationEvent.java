@@ -0,0 +1,11 @@
+package com.example.employeemanagementsystem.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("com.example.employeemanagementsystem.ServiceOperation")
+@Label("Service Operation")
+@Category({"Employee Management System", "Service"})
+public class ServiceOperationEvent extends OperationEvent {
+}
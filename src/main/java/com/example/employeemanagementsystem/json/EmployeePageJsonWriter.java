@@ -0,0 +1,254 @@
+package com.example.employeemanagementsystem.json;
+
+import com.example.employeemanagementsystem.cache.EmployeeNameDirectory;
+import com.example.employeemanagementsystem.config.RequestDeadline;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.function.LongSupplier;
+
+// Writes a PagedResponse of EmployeeResponseDTOs straight from JDBC rows (or of EmployeeLookupDTOs
+// straight from EmployeeNameDirectory) to the response stream, without building the DTO graph or going through reflective serialization.
+// The output must stay byte-for-byte identical to Jackson's rendering of the DTOs; that contract
+// is pinned by EmployeePageJsonWriterTests.
+@Component
+public class EmployeePageJsonWriter {
+
+    // Column positions of EmployeePageJdbcRepository's SELECT list
+    private static final int COL_ID = 1;
+    private static final int COL_NAME = 2;
+    private static final int COL_DATE_OF_BIRTH = 3;
+    private static final int COL_SALARY = 4;
+    private static final int COL_DEPARTMENT_ID = 5;
+    private static final int COL_DEPARTMENT_NAME = 6;
+    private static final int COL_ADDRESS = 7;
+    private static final int COL_ROLE = 8;
+    private static final int COL_JOINING_DATE = 9;
+    private static final int COL_YEARLY_BONUS_PERCENTAGE = 10;
+    private static final int COL_REPORTING_MANAGER_ID = 11;
+    private static final int COL_REPORTING_MANAGER_NAME = 12;
+
+    // Pre-encoded property names, in the order Jackson emits them
+    private static final SerializableString CONTENT = new SerializedString("content");
+    private static final SerializableString PAGE_NUMBER = new SerializedString("pageNumber");
+    private static final SerializableString PAGE_SIZE = new SerializedString("pageSize");
+    private static final SerializableString TOTAL_ELEMENTS = new SerializedString("totalElements");
+    private static final SerializableString TOTAL_PAGES = new SerializedString("totalPages");
+    private static final SerializableString LAST = new SerializedString("last");
+    private static final SerializableString FIRST = new SerializedString("first");
+    private static final SerializableString ID = new SerializedString("id");
+    private static final SerializableString NAME = new SerializedString("name");
+    private static final SerializableString DATE_OF_BIRTH = new SerializedString("dateOfBirth");
+    private static final SerializableString SALARY = new SerializedString("salary");
+    private static final SerializableString DEPARTMENT = new SerializedString("department");
+    private static final SerializableString ADDRESS = new SerializedString("address");
+    private static final SerializableString ROLE = new SerializedString("role");
+    private static final SerializableString JOINING_DATE = new SerializedString("joiningDate");
+    private static final SerializableString YEARLY_BONUS_PERCENTAGE = new SerializedString("yearlyBonusPercentage");
+    private static final SerializableString REPORTING_MANAGER = new SerializedString("reportingManager");
+
+    private final ObjectMapper objectMapper;
+
+    public EmployeePageJsonWriter(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    // Fills one page from `rows`; `countQuery` is only run when the page alone cannot tell the total
+    public void writePage(OutputStream out, Pageable pageable, RowSource rows, LongSupplier countQuery) throws IOException {
+        char[] dateBuffer = new char[10]; // Reused for every date in the page
+        long[] rowCount = new long[1];
+        JsonGenerator[] generator = new JsonGenerator[1]; // Opened at the first row, once the query has returned
+        try {
+            try {
+                rows.forEachRow(resultSet -> {
+                    try {
+                        if (generator[0] == null) {
+                            generator[0] = startPage(out);
+                        }
+                        writeEmployee(generator[0], resultSet, dateBuffer);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                    rowCount[0]++;
+                });
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+            if (generator[0] == null) {
+                generator[0] = startPage(out);
+            }
+            generator[0].writeEndArray();
+            writePageFields(generator[0], pageable, totalElements(pageable, rowCount[0], countQuery));
+            generator[0].writeEndObject();
+        } finally {
+            if (generator[0] != null) {
+                generator[0].close();
+            }
+        }
+    }
+
+    // lookup=true pages: names are copied from the directory's UTF-8 bytes, never decoded into Strings
+    public void writeLookupPage(OutputStream out, Pageable pageable, EmployeeNameDirectory.NamePage names) throws IOException {
+        try (JsonGenerator generator = startPage(out)) {
+            for (int i = 0; i < names.size(); i++) {
+                int start = names.nameStart(i);
+                generator.writeStartObject();
+                generator.writeFieldName(ID);
+                generator.writeNumber(names.ids()[i]);
+                generator.writeFieldName(NAME);
+                generator.writeUTF8String(names.names(), start, names.nameEnds()[i] - start); // Escapes like writeString
+                generator.writeEndObject();
+            }
+            generator.writeEndArray();
+            writePageFields(generator, pageable, names.total());
+            generator.writeEndObject();
+        }
+    }
+
+    // Fallback for pages that are assembled in memory (sharded listings), with the same mapper settings
+    public void writeResponse(OutputStream out, Object response) throws IOException {
+        objectMapper.writeValue(out, response);
+    }
+
+    // The request deadline is checked here, before the first byte, and not while the page is written:
+    // once part of it has been sent, failing could only truncate a response that already went out as
+    // 200. The page query itself is bounded by the deadline's JDBC query timeout.
+    private JsonGenerator startPage(OutputStream out) throws IOException {
+        RequestDeadline.checkpoint("page query");
+        // Generator gets the mapper's features, and its buffers come from Jackson's per-thread recycler
+        JsonGenerator generator = objectMapper.createGenerator(out, JsonEncoding.UTF8);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_JSON_CONTENT); // A page cut short by an error must not parse as complete
+        generator.writeStartObject();
+        generator.writeFieldName(CONTENT);
+        generator.writeStartArray();
+        return generator;
+    }
+
+    // PagedResponse's fields after `content`
+    private static void writePageFields(JsonGenerator generator, Pageable pageable, long totalElements) throws IOException {
+        int totalPages = pageable.getPageSize() == 0 ? 1 : (int) Math.ceil((double) totalElements / pageable.getPageSize());
+        generator.writeFieldName(PAGE_NUMBER);
+        generator.writeNumber(pageable.getPageNumber());
+        generator.writeFieldName(PAGE_SIZE);
+        generator.writeNumber(pageable.getPageSize());
+        generator.writeFieldName(TOTAL_ELEMENTS);
+        generator.writeNumber(totalElements);
+        generator.writeFieldName(TOTAL_PAGES);
+        generator.writeNumber(totalPages);
+        generator.writeFieldName(LAST);
+        generator.writeBoolean(pageable.getPageNumber() + 1 >= totalPages);
+        generator.writeFieldName(FIRST);
+        generator.writeBoolean(pageable.getPageNumber() == 0);
+    }
+
+    // Same shortcuts as Spring Data's PageableExecutionUtils/PageImpl, so the totals match
+    // what Page<Employee> would have reported for the same rows
+    private static long totalElements(Pageable pageable, long rowCount, LongSupplier countQuery) {
+        long offset = pageable.getOffset();
+        if (rowCount > 0 && rowCount < pageable.getPageSize()) {
+            return offset + rowCount;
+        }
+        if (offset == 0 && rowCount < pageable.getPageSize()) {
+            return rowCount;
+        }
+        long total = countQuery.getAsLong();
+        return rowCount > 0 && offset + pageable.getPageSize() > total ? offset + rowCount : total;
+    }
+
+    private static void writeEmployee(JsonGenerator generator, ResultSet resultSet, char[] dateBuffer) throws SQLException, IOException {
+        generator.writeStartObject();
+        generator.writeFieldName(ID);
+        generator.writeNumber(resultSet.getLong(COL_ID));
+        generator.writeFieldName(NAME);
+        generator.writeString(resultSet.getString(COL_NAME));
+        generator.writeFieldName(DATE_OF_BIRTH);
+        writeDate(generator, resultSet.getObject(COL_DATE_OF_BIRTH, LocalDate.class), dateBuffer);
+        generator.writeFieldName(SALARY);
+        writeDecimal(generator, resultSet.getBigDecimal(COL_SALARY));
+        generator.writeFieldName(DEPARTMENT);
+        writeReference(generator, resultSet, COL_DEPARTMENT_ID, COL_DEPARTMENT_NAME);
+        generator.writeFieldName(ADDRESS);
+        generator.writeString(resultSet.getString(COL_ADDRESS)); // writeString(null) writes null
+        generator.writeFieldName(ROLE);
+        generator.writeString(resultSet.getString(COL_ROLE));
+        generator.writeFieldName(JOINING_DATE);
+        writeDate(generator, resultSet.getObject(COL_JOINING_DATE, LocalDate.class), dateBuffer);
+        generator.writeFieldName(YEARLY_BONUS_PERCENTAGE);
+        double bonus = resultSet.getDouble(COL_YEARLY_BONUS_PERCENTAGE);
+        if (resultSet.wasNull()) {
+            generator.writeNull();
+        } else {
+            generator.writeNumber(bonus);
+        }
+        generator.writeFieldName(REPORTING_MANAGER);
+        writeReference(generator, resultSet, COL_REPORTING_MANAGER_ID, COL_REPORTING_MANAGER_NAME);
+        generator.writeEndObject();
+    }
+
+    // DepartmentLookupDTO / EmployeeLookupDTO shape: {"id":..,"name":..}, or null
+    private static void writeReference(JsonGenerator generator, ResultSet resultSet, int idColumn, int nameColumn) throws SQLException, IOException {
+        long id = resultSet.getLong(idColumn);
+        if (resultSet.wasNull()) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        generator.writeFieldName(ID);
+        generator.writeNumber(id);
+        generator.writeFieldName(NAME);
+        generator.writeString(resultSet.getString(nameColumn));
+        generator.writeEndObject();
+    }
+
+    private static void writeDecimal(JsonGenerator generator, BigDecimal value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+        } else {
+            generator.writeNumber(value);
+        }
+    }
+
+    // ISO yyyy-MM-dd, as Jackson's LocalDateSerializer writes it, formatted into a reused buffer
+    private static void writeDate(JsonGenerator generator, LocalDate date, char[] buffer) throws IOException {
+        if (date == null) {
+            generator.writeNull();
+            return;
+        }
+        int year = date.getYear();
+        if (year < 0 || year > 9999) {
+            generator.writeString(date.toString());
+            return;
+        }
+        writeDigits(buffer, 0, year, 4);
+        buffer[4] = '-';
+        writeDigits(buffer, 5, date.getMonthValue(), 2);
+        buffer[7] = '-';
+        writeDigits(buffer, 8, date.getDayOfMonth(), 2);
+        generator.writeString(buffer, 0, 10);
+    }
+
+    private static void writeDigits(char[] buffer, int offset, int value, int width) {
+        for (int i = offset + width - 1; i >= offset; i--) {
+            buffer[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+    }
+
+    @FunctionalInterface
+    public interface RowSource {
+        void forEachRow(RowCallbackHandler rowHandler);
+    }
+}
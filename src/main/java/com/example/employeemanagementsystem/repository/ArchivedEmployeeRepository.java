@@ -0,0 +1,9 @@
+package com.example.employeemanagementsystem.repository;
+
+import com.example.employeemanagementsystem.entity.ArchivedEmployee;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ArchivedEmployeeRepository extends JpaRepository<ArchivedEmployee, Long> {
+}
@@ -0,0 +1,24 @@
+package com.example.employeemanagementsystem.repository;
+
+import com.example.employeemanagementsystem.entity.Department;
+import com.example.employeemanagementsystem.graphql.DepartmentNode;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+// Batch loads behind the GraphQL resolvers; see EmployeeNodeRepository
+public interface DepartmentNodeRepository extends Repository<Department, Long> {
+
+    String SELECT_NODE = "SELECT new com.example.employeemanagementsystem.graphql.DepartmentNode(" +
+            "d.id, d.name, d.creationDate, d.headcount, d.totalSalary, d.departmentHead.id) FROM Department d ";
+
+    @Query(SELECT_NODE + "ORDER BY d.id")
+    List<DepartmentNode> findPage(Pageable pageable);
+
+    @Query(SELECT_NODE + "WHERE d.id IN :ids")
+    List<DepartmentNode> findByIds(@Param("ids") Collection<Long> ids);
+}
@@ -2,12 +2,37 @@ package com.example.employeemanagementsystem.repository;
 
 import com.example.employeemanagementsystem.entity.Department;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface DepartmentRepository extends JpaRepository<Department, Long> {
     Optional<Department> findByName(String name);
     boolean existsByName(String name);
-}
\ No newline at end of file
+
+    // Applied as a single UPDATE so concurrent employee writes never lose an increment
+    @Modifying
+    @Query("UPDATE Department d SET d.headcount = d.headcount + :headcountDelta, " +
+            "d.totalSalary = d.totalSalary + :salaryDelta WHERE d.id = :id")
+    int adjustTotals(@Param("id") Long id, @Param("headcountDelta") long headcountDelta, @Param("salaryDelta") BigDecimal salaryDelta);
+
+    // Recomputes the totals from the employees table in one statement, used to repair drift
+    @Modifying
+    @Transactional
+    @Query("UPDATE Department d SET " +
+            "d.headcount = (SELECT COUNT(e) FROM Employee e WHERE e.department = d), " +
+            "d.totalSalary = (SELECT COALESCE(SUM(e.salary), 0) FROM Employee e WHERE e.department = d) " +
+            "WHERE d.id = :id")
+    int recomputeTotals(@Param("id") Long id);
+
+    @Modifying
+    @Query("UPDATE Department d SET d.departmentHead = NULL WHERE d.departmentHead.id IN :employeeIds")
+    int clearDepartmentHeads(@Param("employeeIds") List<Long> employeeIds);
+}
@@ -0,0 +1,39 @@
+package com.example.employeemanagementsystem.repository;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+// Copies a batch of employees into employees_archive with a single INSERT ... SELECT,
+// so archiving never loads the rows into the persistence context.
+@Repository
+public class EmployeeArchiveJdbcRepository {
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public EmployeeArchiveJdbcRepository(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public int copyToArchive(List<Long> employeeIds, LocalDate departureDate, LocalDateTime archivedAt) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("employeeIds", employeeIds)
+                .addValue("departureDate", Date.valueOf(departureDate))
+                .addValue("archivedAt", Timestamp.valueOf(archivedAt));
+        return jdbcTemplate.update(
+                "INSERT INTO employees_archive (id, name, date_of_birth, salary, department_id, department_name, address, role, " +
+                        "joining_date, yearly_bonus_percentage, reporting_manager_id, departure_date, archived_at) " +
+                        "SELECT e.id, e.name, e.date_of_birth, e.salary, e.department_id, d.name, e.address, e.role, " +
+                        "e.joining_date, e.yearly_bonus_percentage, e.reporting_manager_id, " +
+                        "CAST(:departureDate AS DATE), CAST(:archivedAt AS TIMESTAMP) " +
+                        "FROM employees e LEFT JOIN departments d ON d.id = e.department_id " +
+                        "WHERE e.id IN (:employeeIds)",
+                parameters);
+    }
+}
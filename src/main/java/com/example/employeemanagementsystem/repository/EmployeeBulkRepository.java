@@ -0,0 +1,164 @@
+package com.example.employeemanagementsystem.repository;
+
+import com.example.employeemanagementsystem.dto.BulkEmployeeFilterDTO;
+import com.example.employeemanagementsystem.dto.BulkEmployeeOperationDTO;
+import com.example.employeemanagementsystem.entity.Department;
+import com.example.employeemanagementsystem.entity.Employee;
+import com.example.employeemanagementsystem.entity.EmployeeHistory;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Set-based statements for POST /api/employees/bulk-update. The filter and the operation are
+// translated into JPQL once and every statement (preview counts, sums, the UPDATE itself)
+// shares the same WHERE clause.
+@Repository
+public class EmployeeBulkRepository {
+
+    private final EntityManager entityManager;
+
+    public EmployeeBulkRepository(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    public long countMatching(BulkEmployeeFilterDTO filter, BulkEmployeeOperationDTO operation) {
+        Criteria criteria = new Criteria(filter, operation);
+        return (Long) criteria.bind(entityManager.createQuery("SELECT COUNT(e) FROM Employee e" + criteria.where))
+                .getSingleResult();
+    }
+
+    @SuppressWarnings("unchecked")
+    public List<Long> findDepartmentIdsMatching(BulkEmployeeFilterDTO filter, BulkEmployeeOperationDTO operation) {
+        Criteria criteria = new Criteria(filter, operation);
+        String jpql = "SELECT DISTINCT e.department.id FROM Employee e" + criteria.where
+                + (criteria.where.isEmpty() ? " WHERE" : " AND") + " e.department IS NOT NULL";
+        return criteria.bind(entityManager.createQuery(jpql)).getResultList();
+    }
+
+    // Current and resulting salary totals over the matched employees: [before, after]
+    public BigDecimal[] sumSalaryMatching(BulkEmployeeFilterDTO filter, BulkEmployeeOperationDTO operation) {
+        Criteria criteria = new Criteria(filter, operation);
+        Object[] sums = (Object[]) criteria.bind(entityManager.createQuery(
+                "SELECT COALESCE(SUM(e.salary), 0), COALESCE(SUM(" + criteria.salaryExpression() + "), 0) FROM Employee e" + criteria.where))
+                .getSingleResult();
+        return new BigDecimal[]{toBigDecimal(sums[0]), toBigDecimal(sums[1])};
+    }
+
+    // Matched employees whose salary would drop to zero or below, or whose bonus would go negative
+    public long countInvalidResults(BulkEmployeeFilterDTO filter, BulkEmployeeOperationDTO operation) {
+        Criteria criteria = new Criteria(filter, operation);
+        String jpql = "SELECT COUNT(e) FROM Employee e" + criteria.where
+                + (criteria.where.isEmpty() ? " WHERE" : " AND")
+                + " (" + criteria.salaryExpression() + " <= 0 OR " + criteria.bonusExpression() + " < 0)";
+        return (Long) criteria.bind(entityManager.createQuery(jpql)).getSingleResult();
+    }
+
+    // Closes the open history version of every matched employee; see EmployeeHistory
+    public int closeHistoryMatching(BulkEmployeeFilterDTO filter, BulkEmployeeOperationDTO operation, LocalDateTime closedAt) {
+        Criteria criteria = new Criteria(filter, operation);
+        return criteria.bind(entityManager.createQuery(
+                "UPDATE EmployeeHistory h SET h.validTo = :closedAt WHERE h.validTo = :openEnd " +
+                        "AND h.employeeId IN (SELECT e.id FROM Employee e" + criteria.where + ")"))
+                .setParameter("closedAt", closedAt)
+                .setParameter("openEnd", EmployeeHistory.OPEN_END)
+                .executeUpdate();
+    }
+
+    public int bulkUpdate(BulkEmployeeFilterDTO filter, BulkEmployeeOperationDTO operation,
+                          Department newDepartment, Employee newReportingManager) {
+        Criteria criteria = new Criteria(filter, operation);
+        List<String> assignments = new ArrayList<>();
+        if (operation.getSalaryChangePercent() != null || operation.getSalaryChangeAmount() != null) {
+            assignments.add("e.salary = " + criteria.salaryExpression());
+        }
+        if (operation.getYearlyBonusPercentageChange() != null) {
+            assignments.add("e.yearlyBonusPercentage = " + criteria.bonusExpression());
+        }
+        if (newDepartment != null) {
+            assignments.add("e.department = :newDepartment");
+            criteria.parameters.put("newDepartment", newDepartment);
+        }
+        if (newReportingManager != null) {
+            assignments.add("e.reportingManager = :newReportingManager");
+            criteria.parameters.put("newReportingManager", newReportingManager);
+        }
+
+        // The UPDATE bypasses the persistence context: flush pending changes first and drop
+        // the now-stale managed entities afterwards
+        entityManager.flush();
+        int updated = criteria.bind(entityManager.createQuery(
+                "UPDATE Employee e SET " + String.join(", ", assignments) + criteria.where))
+                .executeUpdate();
+        entityManager.clear();
+        return updated;
+    }
+
+    private static BigDecimal toBigDecimal(Object value) {
+        return value instanceof BigDecimal bigDecimal ? bigDecimal : new BigDecimal(value.toString());
+    }
+
+    private static final class Criteria {
+        private final String where;
+        private final Map<String, Object> parameters = new HashMap<>();
+        private final BulkEmployeeOperationDTO operation;
+
+        private Criteria(BulkEmployeeFilterDTO filter, BulkEmployeeOperationDTO operation) {
+            this.operation = operation;
+            List<String> conditions = new ArrayList<>();
+            if (filter.getDepartmentId() != null) {
+                conditions.add("e.department.id = :departmentId");
+                parameters.put("departmentId", filter.getDepartmentId());
+            }
+            if (filter.getRole() != null) {
+                conditions.add("e.role = :role");
+                parameters.put("role", filter.getRole());
+            }
+            if (filter.getManagerId() != null) {
+                conditions.add("e.reportingManager.id = :managerId");
+                parameters.put("managerId", filter.getManagerId());
+            }
+            if (filter.getEmployeeIds() != null) {
+                conditions.add("e.id IN :employeeIds");
+                parameters.put("employeeIds", filter.getEmployeeIds());
+            }
+            if (operation.getNewReportingManagerId() != null) {
+                // An employee cannot be their own reporting manager
+                conditions.add("e.id <> :newReportingManagerId");
+                parameters.put("newReportingManagerId", operation.getNewReportingManagerId());
+            }
+            this.where = conditions.isEmpty() ? "" : " WHERE " + String.join(" AND ", conditions);
+        }
+
+        private String salaryExpression() {
+            if (operation.getSalaryChangePercent() != null) {
+                parameters.put("salaryFactor", BigDecimal.ONE.add(operation.getSalaryChangePercent().movePointLeft(2)));
+                return "ROUND(e.salary * :salaryFactor, 2)";
+            }
+            if (operation.getSalaryChangeAmount() != null) {
+                parameters.put("salaryDelta", operation.getSalaryChangeAmount());
+                return "(e.salary + :salaryDelta)";
+            }
+            return "e.salary";
+        }
+
+        private String bonusExpression() {
+            if (operation.getYearlyBonusPercentageChange() != null) {
+                parameters.put("bonusDelta", operation.getYearlyBonusPercentageChange());
+                return "(e.yearlyBonusPercentage + :bonusDelta)";
+            }
+            return "e.yearlyBonusPercentage";
+        }
+
+        private Query bind(Query query) {
+            parameters.forEach(query::setParameter);
+            return query;
+        }
+    }
+}
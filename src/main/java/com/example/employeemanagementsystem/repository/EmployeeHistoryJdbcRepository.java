@@ -0,0 +1,71 @@
+package com.example.employeemanagementsystem.repository;
+
+import com.example.employeemanagementsystem.entity.EmployeeHistory;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+// Set-based history writes for the paths that change many employees at once (bulk updates,
+// offboarding, startup backfill): versions are closed and opened with single statements
+// instead of loading every employee.
+@Repository
+public class EmployeeHistoryJdbcRepository {
+
+    private static final String INSERT_SNAPSHOT =
+            "INSERT INTO employee_history (employee_id, name, date_of_birth, salary, department_id, department_name, " +
+                    "address, role, joining_date, yearly_bonus_percentage, reporting_manager_id, reporting_manager_name, " +
+                    "valid_from, valid_to) " +
+                    "SELECT e.id, e.name, e.date_of_birth, e.salary, e.department_id, d.name, e.address, e.role, " +
+                    "e.joining_date, e.yearly_bonus_percentage, e.reporting_manager_id, m.name, %s, CAST(:openEnd AS TIMESTAMP) " +
+                    "FROM employees e LEFT JOIN departments d ON d.id = e.department_id " +
+                    "LEFT JOIN employees m ON m.id = e.reporting_manager_id ";
+
+    private static final String WITHOUT_OPEN_VERSION =
+            "WHERE NOT EXISTS (SELECT 1 FROM employee_history h WHERE h.employee_id = e.id AND h.valid_to = CAST(:openEnd AS TIMESTAMP))";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public EmployeeHistoryJdbcRepository(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public int closeCurrentVersions(List<Long> employeeIds, LocalDateTime closedAt) {
+        return jdbcTemplate.update(
+                "UPDATE employee_history SET valid_to = CAST(:closedAt AS TIMESTAMP) " +
+                        "WHERE employee_id IN (:employeeIds) AND valid_to = CAST(:openEnd AS TIMESTAMP)",
+                parameters()
+                        .addValue("employeeIds", employeeIds)
+                        .addValue("closedAt", Timestamp.valueOf(closedAt)));
+    }
+
+    // Snapshots the given employees' current rows as new versions starting at validFrom
+    public int openVersions(List<Long> employeeIds, LocalDateTime validFrom) {
+        return jdbcTemplate.update(
+                String.format(INSERT_SNAPSHOT, "CAST(:validFrom AS TIMESTAMP)") + "WHERE e.id IN (:employeeIds)",
+                parameters()
+                        .addValue("employeeIds", employeeIds)
+                        .addValue("validFrom", Timestamp.valueOf(validFrom)));
+    }
+
+    // Opens a version starting at validFrom for every employee without a current one
+    public int openMissingVersions(LocalDateTime validFrom) {
+        return jdbcTemplate.update(
+                String.format(INSERT_SNAPSHOT, "CAST(:validFrom AS TIMESTAMP)") + WITHOUT_OPEN_VERSION,
+                parameters().addValue("validFrom", Timestamp.valueOf(validFrom)));
+    }
+
+    // Startup backfill: employees with no history yet are assumed unchanged since they joined
+    public int openMissingVersionsFromJoiningDate(LocalDateTime now) {
+        return jdbcTemplate.update(
+                String.format(INSERT_SNAPSHOT, "LEAST(CAST(e.joining_date AS TIMESTAMP), CAST(:now AS TIMESTAMP))") + WITHOUT_OPEN_VERSION,
+                parameters().addValue("now", Timestamp.valueOf(now)));
+    }
+
+    private static MapSqlParameterSource parameters() {
+        return new MapSqlParameterSource("openEnd", Timestamp.valueOf(EmployeeHistory.OPEN_END));
+    }
+}
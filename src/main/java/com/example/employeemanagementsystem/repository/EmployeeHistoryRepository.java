@@ -0,0 +1,26 @@
+package com.example.employeemanagementsystem.repository;
+
+import com.example.employeemanagementsystem.entity.EmployeeHistory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface EmployeeHistoryRepository extends JpaRepository<EmployeeHistory, Long> {
+
+    List<EmployeeHistory> findByEmployeeIdOrderByValidFromAsc(Long employeeId);
+
+    Optional<EmployeeHistory> findByEmployeeIdAndValidTo(Long employeeId, LocalDateTime validTo);
+
+    // Versions whose validity interval covers the instant just before `cutoff`
+    @Query(value = "SELECT h FROM EmployeeHistory h WHERE h.validTo >= :cutoff AND h.validFrom < :cutoff",
+            countQuery = "SELECT COUNT(h) FROM EmployeeHistory h WHERE h.validTo >= :cutoff AND h.validFrom < :cutoff")
+    Page<EmployeeHistory> findValidAt(@Param("cutoff") LocalDateTime cutoff, Pageable pageable);
+}
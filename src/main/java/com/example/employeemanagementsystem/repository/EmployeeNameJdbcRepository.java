@@ -0,0 +1,21 @@
+package com.example.employeemanagementsystem.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+// Full ID/name scan used to (re)build EmployeeNameDirectory; rows are streamed to the callback
+@Repository
+public class EmployeeNameJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public EmployeeNameJdbcRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    // Row columns: id, name; in ascending ID order
+    public void forEachName(RowCallbackHandler rowHandler) {
+        jdbcTemplate.query("SELECT id, name FROM employees ORDER BY id", rowHandler);
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.employeemanagementsystem.repository;
+
+import com.example.employeemanagementsystem.entity.Employee;
+import com.example.employeemanagementsystem.graphql.EmployeeNode;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+// Batch loads behind the GraphQL resolvers: one IN query per level of a GraphQL query.
+// Foreign keys are read from the employees row itself (no joins, no lazy associations).
+public interface EmployeeNodeRepository extends Repository<Employee, Long> {
+
+    String SELECT_NODE = "SELECT new com.example.employeemanagementsystem.graphql.EmployeeNode(" +
+            "e.id, e.name, e.dateOfBirth, e.salary, e.address, e.role, e.joiningDate, e.yearlyBonusPercentage, " +
+            "e.department.id, e.reportingManager.id) FROM Employee e ";
+
+    @Query(SELECT_NODE + "ORDER BY e.id")
+    List<EmployeeNode> findPage(Pageable pageable);
+
+    @Query(SELECT_NODE + "WHERE e.id IN :ids")
+    List<EmployeeNode> findByIds(@Param("ids") Collection<Long> ids);
+
+    @Query(SELECT_NODE + "WHERE e.department.id IN :departmentIds ORDER BY e.id")
+    List<EmployeeNode> findByDepartmentIds(@Param("departmentIds") Collection<Long> departmentIds);
+
+    @Query(SELECT_NODE + "WHERE e.reportingManager.id IN :managerIds ORDER BY e.id")
+    List<EmployeeNode> findByReportingManagerIds(@Param("managerIds") Collection<Long> managerIds);
+}
@@ -0,0 +1,28 @@
+package com.example.employeemanagementsystem.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+// One page of employees as flat rows for EmployeePageJsonWriter, which reads the columns
+// by position: keep the SELECT list in step with its COL_* constants.
+@Repository
+public class EmployeePageJdbcRepository {
+
+    private static final String SELECT_EMPLOYEES =
+            "SELECT e.id, e.name, e.date_of_birth, e.salary, e.department_id, d.name, e.address, e.role, " +
+                    "e.joining_date, e.yearly_bonus_percentage, e.reporting_manager_id, m.name " +
+                    "FROM employees e LEFT JOIN departments d ON d.id = e.department_id " +
+                    "LEFT JOIN employees m ON m.id = e.reporting_manager_id " +
+                    "ORDER BY e.id LIMIT ? OFFSET ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public EmployeePageJdbcRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public void forEachEmployee(long offset, int limit, RowCallbackHandler rowHandler) {
+        jdbcTemplate.query(SELECT_EMPLOYEES, rowHandler, limit, offset);
+    }
+}
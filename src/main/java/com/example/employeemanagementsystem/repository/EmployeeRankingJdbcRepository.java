@@ -0,0 +1,55 @@
+package com.example.employeemanagementsystem.repository;
+
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+// Top-K per group in a single query: ROW_NUMBER() over each partition, filtered to the first K.
+// Rows come back ordered by group and rank, so callers can fold them into groups while streaming.
+@Repository
+public class EmployeeRankingJdbcRepository {
+
+    public enum RankBy {
+        SALARY("e.salary DESC"),
+        JOINING_DATE("e.joining_date ASC");
+
+        private final String orderBy;
+
+        RankBy(String orderBy) {
+            this.orderBy = orderBy;
+        }
+    }
+
+    // `column` partitions the inner query; `rankedColumn` is the same value in the outer ORDER BY
+    public enum GroupBy {
+        DEPARTMENT("e.department_id", "ranked.department_id"),
+        ROLE("e.role", "ranked.role");
+
+        private final String column;
+        private final String rankedColumn;
+
+        GroupBy(String column, String rankedColumn) {
+            this.column = column;
+            this.rankedColumn = rankedColumn;
+        }
+    }
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public EmployeeRankingJdbcRepository(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    // Row columns: rank_in_group, id, name, role, department_id, department_name, salary, joining_date
+    public void findTopPerGroup(RankBy rankBy, GroupBy groupBy, int k, RowCallbackHandler rowHandler) {
+        // Only enum-provided SQL fragments are concatenated; k is bound
+        String sql = "SELECT * FROM (" +
+                "SELECT ROW_NUMBER() OVER (PARTITION BY " + groupBy.column + " ORDER BY " + rankBy.orderBy + ", e.id) AS rank_in_group, " +
+                "e.id, e.name, e.role, e.department_id, d.name AS department_name, e.salary, e.joining_date " +
+                "FROM employees e LEFT JOIN departments d ON d.id = e.department_id" +
+                ") ranked WHERE rank_in_group <= :k " +
+                "ORDER BY " + groupBy.rankedColumn + " NULLS LAST, rank_in_group";
+        jdbcTemplate.query(sql, new MapSqlParameterSource("k", k), rowHandler);
+    }
+}
@@ -2,11 +2,15 @@ package com.example.employeemanagementsystem.repository;
 
 import com.example.employeemanagementsystem.entity.Employee;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.stereotype.Repository;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.math.BigDecimal;
 import java.util.List;
 
 @Repository
@@ -16,4 +20,65 @@ public interface EmployeeRepository extends JpaRepository<Employee, Long> {
 
     // Count employees in a department
     long countByDepartmentId(Long departmentId);
-}
\ No newline at end of file
+
+    // Actual headcount and payroll per department, compared against the denormalized counters
+    @Query("SELECT e.department.id AS departmentId, COUNT(e) AS headcount, SUM(e.salary) AS totalSalary " +
+            "FROM Employee e WHERE e.department IS NOT NULL GROUP BY e.department.id")
+    List<DepartmentTotals> aggregateTotalsByDepartment();
+
+    @Query("SELECT MIN(e.id) AS minId, MAX(e.id) AS maxId, COUNT(e) AS total FROM Employee e")
+    EmployeeIdRange findIdRange();
+
+    // Keyset page in ID order with department and manager fetched in the same query
+    @Query("SELECT e FROM Employee e LEFT JOIN FETCH e.department LEFT JOIN FETCH e.reportingManager " +
+            "WHERE e.id > :afterId ORDER BY e.id")
+    List<Employee> findBatchAfterId(@Param("afterId") Long afterId, Limit limit);
+
+    // Upcoming birthdays/anniversaries: one day-of-year range per query, so each stays a plain range
+    // scan on its index (an OR of two BETWEENs may be planned as a full table scan)
+    List<Employee> findByBirthDayOfYearBetween(int from, int to);
+
+    List<Employee> findByJoiningDayOfYearBetween(int from, int to);
+
+    // Rows written before the day-of-year columns existed
+    @Query("SELECT e FROM Employee e WHERE e.birthDayOfYear IS NULL OR e.joiningDayOfYear IS NULL")
+    List<Employee> findMissingDayOfYearIndex(Pageable pageable);
+
+    @Query("SELECT e.id FROM Employee e WHERE e.id IN :ids")
+    List<Long> findExistingIds(@Param("ids") List<Long> ids);
+
+    @Query("SELECT DISTINCT e.department.id FROM Employee e WHERE e.id IN :ids AND e.department IS NOT NULL")
+    List<Long> findDepartmentIdsByEmployeeIds(@Param("ids") List<Long> ids);
+
+    // Non-departing employees reporting to any of the given managers
+    @Query("SELECT e.id FROM Employee e WHERE e.reportingManager.id IN :managerIds AND e.id NOT IN :managerIds")
+    List<Long> findDirectReportIds(@Param("managerIds") List<Long> managerIds);
+
+    // Moves the non-departing direct reports of the given employees up to their manager's manager
+    // (or to no manager). The departing employees themselves are left alone: they are deleted next.
+    @Modifying
+    @Query("UPDATE Employee e SET e.reportingManager = " +
+            "(SELECT m.reportingManager FROM Employee m WHERE m.id = e.reportingManager.id) " +
+            "WHERE e.reportingManager.id IN :managerIds AND e.id NOT IN :managerIds")
+    int reparentDirectReports(@Param("managerIds") List<Long> managerIds);
+
+    @Modifying
+    @Query("UPDATE Employee e SET e.reportingManager = NULL WHERE e.reportingManager.id IN :managerIds AND e.id NOT IN :managerIds")
+    int clearReportingManager(@Param("managerIds") List<Long> managerIds);
+
+    @Modifying
+    @Query("DELETE FROM Employee e WHERE e.id IN :ids")
+    int deleteByIdIn(@Param("ids") List<Long> ids);
+
+    interface DepartmentTotals {
+        Long getDepartmentId();
+        Long getHeadcount();
+        BigDecimal getTotalSalary();
+    }
+
+    interface EmployeeIdRange {
+        Long getMinId();
+        Long getMaxId();
+        Long getTotal();
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.employeemanagementsystem.repository;
+
+import com.example.employeemanagementsystem.entity.PayrollResult;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+// Plain JDBC access for the payroll workers. Going through JPA would load full Employee entities
+// and, with IDENTITY keys, Hibernate cannot batch inserts; here a chunk is one range scan plus
+// one batched INSERT.
+@Repository
+public class PayrollJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public PayrollJdbcRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    // Returns salary and bonus percentage for employees with fromId <= id < toId, in ID order.
+    // bonusAmount is left for the caller to compute.
+    public List<PayrollResult> findPayrollInputs(Long runId, long fromId, long toId) {
+        return jdbcTemplate.query(
+                "SELECT id, salary, yearly_bonus_percentage FROM employees WHERE id >= ? AND id < ? ORDER BY id",
+                (rs, rowNum) -> new PayrollResult(runId, rs.getLong("id"), rs.getBigDecimal("salary"),
+                        rs.getDouble("yearly_bonus_percentage"), null),
+                fromId, toId);
+    }
+
+    public void insertResults(List<PayrollResult> results) {
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO payroll_results (run_id, employee_id, salary, bonus_percentage, bonus_amount) VALUES (?, ?, ?, ?, ?)",
+                results, results.size(), (ps, result) -> {
+                    ps.setLong(1, result.getRunId());
+                    ps.setLong(2, result.getEmployeeId());
+                    ps.setBigDecimal(3, result.getSalary());
+                    ps.setDouble(4, result.getBonusPercentage());
+                    ps.setBigDecimal(5, result.getBonusAmount());
+                });
+    }
+
+    public void insertChunkCheckpoint(Long runId, int chunkIndex, int employeeCount) {
+        jdbcTemplate.update(
+                "INSERT INTO payroll_run_chunks (run_id, chunk_index, employee_count, completed_at) VALUES (?, ?, ?, ?)",
+                runId, chunkIndex, employeeCount, Timestamp.valueOf(LocalDateTime.now()));
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.employeemanagementsystem.repository;
+
+import com.example.employeemanagementsystem.entity.PayrollResult;
+import com.example.employeemanagementsystem.entity.PayrollResultId;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface PayrollResultRepository extends JpaRepository<PayrollResult, PayrollResultId> {
+    Page<PayrollResult> findByRunIdOrderByEmployeeId(Long runId, Pageable pageable);
+}
@@ -0,0 +1,25 @@
+package com.example.employeemanagementsystem.repository;
+
+import com.example.employeemanagementsystem.entity.PayrollRunChunk;
+import com.example.employeemanagementsystem.entity.PayrollRunChunkId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface PayrollRunChunkRepository extends JpaRepository<PayrollRunChunk, PayrollRunChunkId> {
+    @Query("SELECT c.chunkIndex FROM PayrollRunChunk c WHERE c.runId = :runId")
+    List<Integer> findCompletedChunkIndexes(@Param("runId") Long runId);
+
+    @Query("SELECT COUNT(c) AS completedChunks, COALESCE(SUM(c.employeeCount), 0) AS processedEmployees " +
+            "FROM PayrollRunChunk c WHERE c.runId = :runId")
+    ChunkProgress summarizeProgress(@Param("runId") Long runId);
+
+    interface ChunkProgress {
+        Long getCompletedChunks();
+        Long getProcessedEmployees();
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.employeemanagementsystem.repository;
+
+import com.example.employeemanagementsystem.entity.PayrollRun;
+import com.example.employeemanagementsystem.entity.PayrollRunStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface PayrollRunRepository extends JpaRepository<PayrollRun, Long> {
+    boolean existsByStatus(PayrollRunStatus status);
+    List<PayrollRun> findByStatus(PayrollRunStatus status);
+}
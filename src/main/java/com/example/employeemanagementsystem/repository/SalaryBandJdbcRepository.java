@@ -0,0 +1,21 @@
+package com.example.employeemanagementsystem.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+// Full salary scan used to (re)build the salary band sketches; rows are streamed to the callback
+@Repository
+public class SalaryBandJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public SalaryBandJdbcRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    // Row columns: role, department_id, salary
+    public void forEachSalary(RowCallbackHandler rowHandler) {
+        jdbcTemplate.query("SELECT role, department_id, salary FROM employees", rowHandler);
+    }
+}
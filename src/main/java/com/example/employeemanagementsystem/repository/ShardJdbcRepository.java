@@ -0,0 +1,112 @@
+package com.example.employeemanagementsystem.repository;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// Statements used by the sharded mode to locate employees, copy rows between shards and keep
+// department reference data replicated. They run on whichever shard the current transaction is
+// routed to (see ShardRouter).
+@Repository
+public class ShardJdbcRepository {
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public ShardJdbcRepository(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public boolean employeeExists(Long employeeId) {
+        Integer count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM employees WHERE id = :id",
+                new MapSqlParameterSource("id", employeeId), Integer.class);
+        return count != null && count > 0;
+    }
+
+    public Map<Long, String> findEmployeeNames(List<Long> employeeIds) {
+        Map<Long, String> names = new HashMap<>();
+        jdbcTemplate.query("SELECT id, name FROM employees WHERE id IN (:ids)",
+                new MapSqlParameterSource("ids", employeeIds),
+                resultSet -> {
+                    names.put(resultSet.getLong(1), resultSet.getString(2));
+                });
+        return names;
+    }
+
+    // Employees whose department belongs on another shard (or, without a department, off shard 0)
+    public List<Long> findMisplacedEmployeeIds(int shard, int shardCount) {
+        return jdbcTemplate.queryForList(
+                "SELECT id FROM employees WHERE (department_id IS NULL AND :shard <> 0) " +
+                        "OR (department_id IS NOT NULL AND MOD(department_id, :shardCount) <> :shard)",
+                new MapSqlParameterSource("shard", shard).addValue("shardCount", shardCount),
+                Long.class);
+    }
+
+    // Generic row copy by column name; `table` and `keyColumn` are always constants from callers
+    public List<Map<String, Object>> findRows(String table, String keyColumn, Long key) {
+        return jdbcTemplate.queryForList("SELECT * FROM " + table + " WHERE " + keyColumn + " = :key",
+                new MapSqlParameterSource("key", key));
+    }
+
+    public void insertRows(String table, List<Map<String, Object>> rows, Set<String> excludedColumns) {
+        for (Map<String, Object> row : rows) {
+            List<String> columns = new ArrayList<>();
+            MapSqlParameterSource parameters = new MapSqlParameterSource();
+            row.forEach((column, value) -> {
+                if (excludedColumns.stream().noneMatch(column::equalsIgnoreCase)) {
+                    columns.add(column);
+                    parameters.addValue("c" + columns.size(), value);
+                }
+            });
+            List<String> placeholders = new ArrayList<>();
+            for (int i = 1; i <= columns.size(); i++) {
+                placeholders.add(":c" + i);
+            }
+            jdbcTemplate.update("INSERT INTO " + table + " (" + String.join(", ", columns) + ") VALUES ("
+                    + String.join(", ", placeholders) + ")", parameters);
+        }
+    }
+
+    public int deleteRows(String table, String keyColumn, Long key) {
+        return jdbcTemplate.update("DELETE FROM " + table + " WHERE " + keyColumn + " = :key",
+                new MapSqlParameterSource("key", key));
+    }
+
+    // Row maps from queryForList have case-insensitive keys, so callers can use lower-case column names.
+    // Department reference columns only: each shard keeps its own headcount/total_salary, which are
+    // authoritative on the shard that holds the department's employees
+    public List<Map<String, Object>> findDepartmentReferences() {
+        return jdbcTemplate.queryForList("SELECT id, name, creation_date, head_employee_id FROM departments",
+                new MapSqlParameterSource());
+    }
+
+    public Map<String, Object> findDepartmentReference(Long departmentId) {
+        List<Map<String, Object>> rows = jdbcTemplate.queryForList(
+                "SELECT id, name, creation_date, head_employee_id FROM departments WHERE id = :id",
+                new MapSqlParameterSource("id", departmentId));
+        return rows.isEmpty() ? null : rows.get(0);
+    }
+
+    public void upsertDepartmentReference(Map<String, Object> reference) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("id", reference.get("id"))
+                .addValue("name", reference.get("name"))
+                .addValue("creationDate", reference.get("creation_date"))
+                .addValue("headEmployeeId", reference.get("head_employee_id"));
+        int updated = jdbcTemplate.update("UPDATE departments SET name = :name, creation_date = :creationDate, " +
+                "head_employee_id = :headEmployeeId WHERE id = :id", parameters);
+        if (updated == 0) {
+            jdbcTemplate.update("INSERT INTO departments (id, name, creation_date, head_employee_id, headcount, total_salary) " +
+                    "VALUES (:id, :name, :creationDate, :headEmployeeId, 0, 0)", parameters);
+        }
+    }
+
+    public int deleteDepartment(Long departmentId) {
+        return jdbcTemplate.update("DELETE FROM departments WHERE id = :id", new MapSqlParameterSource("id", departmentId));
+    }
+}
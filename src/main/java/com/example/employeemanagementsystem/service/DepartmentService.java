@@ -1,10 +1,15 @@
 package com.example.employeemanagementsystem.service;
 
+import com.example.employeemanagementsystem.cache.EmployeeNameDirectory;
+import com.example.employeemanagementsystem.cache.EmployeeResponseCache;
+import com.example.employeemanagementsystem.config.RequestDeadline;
+import com.example.employeemanagementsystem.config.ShardRouter;
 import com.example.employeemanagementsystem.dto.*;
 import com.example.employeemanagementsystem.entity.Department;
 import com.example.employeemanagementsystem.entity.Employee;
 import com.example.employeemanagementsystem.exception.ResourceNotFoundException;
 import com.example.employeemanagementsystem.exception.ValidationException;
+import com.example.employeemanagementsystem.jfr.DtoMappingEvent;
 import com.example.employeemanagementsystem.repository.DepartmentRepository;
 import com.example.employeemanagementsystem.repository.EmployeeRepository;
 import org.springframework.data.domain.Page;
@@ -13,7 +18,10 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -21,14 +29,29 @@ public class DepartmentService {
 
     private final DepartmentRepository departmentRepository;
     private final EmployeeRepository employeeRepository; // To check for department head and employees
+    private final EmployeeResponseCache employeeResponseCache;
+    private final ShardRouter shardRouter;
+    private final ShardMaintenanceService shardMaintenanceService;
+    private final SalaryBandService salaryBandService;
+    private final EmployeeNameDirectory employeeNameDirectory;
 
-    public DepartmentService(DepartmentRepository departmentRepository, EmployeeRepository employeeRepository) {
+    public DepartmentService(DepartmentRepository departmentRepository, EmployeeRepository employeeRepository,
+                             EmployeeResponseCache employeeResponseCache, ShardRouter shardRouter,
+                             ShardMaintenanceService shardMaintenanceService, SalaryBandService salaryBandService,
+                             EmployeeNameDirectory employeeNameDirectory) {
         this.departmentRepository = departmentRepository;
         this.employeeRepository = employeeRepository;
+        this.employeeResponseCache = employeeResponseCache;
+        this.shardRouter = shardRouter;
+        this.shardMaintenanceService = shardMaintenanceService;
+        this.salaryBandService = salaryBandService;
+        this.employeeNameDirectory = employeeNameDirectory;
     }
 
     @Transactional
     public DepartmentResponseDTO createDepartment(DepartmentCreateRequestDTO requestDTO) {
+        // New departments take their ID from shard 0 and are then copied to the other shards
+        shardRouter.routeTo(0);
         if (departmentRepository.existsByName(requestDTO.getName())) {
             throw new ValidationException("Department with name '" + requestDTO.getName() + "' already exists.");
         }
@@ -38,22 +61,27 @@ public class DepartmentService {
         department.setCreationDate(requestDTO.getCreationDate());
 
         if (requestDTO.getDepartmentHeadId() != null) {
-            Employee departmentHead = employeeRepository.findById(requestDTO.getDepartmentHeadId())
-                    .orElseThrow(() -> new ResourceNotFoundException("Employee not found with ID: " + requestDTO.getDepartmentHeadId()));
-            department.setDepartmentHead(departmentHead);
+            department.setDepartmentHead(findEmployee(requestDTO.getDepartmentHeadId()));
         }
 
         Department savedDepartment = departmentRepository.save(department);
+        shardMaintenanceService.replicateDepartmentAfterCommit(savedDepartment.getId(), 0);
         return mapToDepartmentResponseDTO(savedDepartment, false);
     }
 
+    @Transactional(readOnly = true)
     public PagedResponse<DepartmentResponseDTO> getAllDepartments(int page, int size, boolean expandEmployees) {
+        shardRouter.routeTo(0);
         Pageable pageable = PageRequest.of(page, size);
         Page<Department> departmentPage = departmentRepository.findAll(pageable);
 
-        List<DepartmentResponseDTO> content = departmentPage.getContent().stream()
-                .map(department -> mapToDepartmentResponseDTO(department, expandEmployees))
-                .collect(Collectors.toList());
+        List<DepartmentResponseDTO> content;
+        if (shardRouter.isSharded()) {
+            content = mapOnOwningShards(departmentPage.getContent(), expandEmployees);
+        } else {
+            content = DtoMappingEvent.mapAll("DepartmentResponseDTO", departmentPage.getContent(),
+                    department -> mapToDepartmentResponseDTO(department, expandEmployees));
+        }
 
         return new PagedResponse<>(
                 content,
@@ -66,7 +94,10 @@ public class DepartmentService {
         );
     }
 
+    @Transactional(readOnly = true)
     public DepartmentResponseDTO getDepartmentById(Long id, boolean expandEmployees) {
+        // The owning shard holds the department's employees and its authoritative totals
+        shardRouter.routeTo(shardRouter.shardFor(id));
         Department department = departmentRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Department not found with ID: " + id));
         return mapToDepartmentResponseDTO(department, expandEmployees);
@@ -74,6 +105,7 @@ public class DepartmentService {
 
     @Transactional
     public DepartmentResponseDTO updateDepartment(Long id, DepartmentUpdateRequestDTO requestDTO) {
+        shardRouter.routeTo(shardRouter.shardFor(id));
         Department existingDepartment = departmentRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Department not found with ID: " + id));
 
@@ -81,57 +113,132 @@ public class DepartmentService {
             throw new ValidationException("Department with name '" + requestDTO.getName() + "' already exists.");
         }
 
+        if (!existingDepartment.getName().equals(requestDTO.getName())) {
+            // Cached employees embed the department name
+            employeeResponseCache.evictByDepartmentAfterCommit(id);
+            salaryBandService.invalidateAfterCommit();
+        }
         existingDepartment.setName(requestDTO.getName());
         existingDepartment.setCreationDate(requestDTO.getCreationDate());
 
         if (requestDTO.getDepartmentHeadId() != null) {
-            Employee newDepartmentHead = employeeRepository.findById(requestDTO.getDepartmentHeadId())
-                    .orElseThrow(() -> new ResourceNotFoundException("Employee not found with ID: " + requestDTO.getDepartmentHeadId()));
-            existingDepartment.setDepartmentHead(newDepartmentHead);
+            existingDepartment.setDepartmentHead(findEmployee(requestDTO.getDepartmentHeadId()));
         } else {
             existingDepartment.setDepartmentHead(null); // Allow unsetting department head
         }
 
         Department updatedDepartment = departmentRepository.save(existingDepartment);
+        shardMaintenanceService.replicateDepartmentAfterCommit(id, shardRouter.shardFor(id));
         return mapToDepartmentResponseDTO(updatedDepartment, false);
     }
 
     @Transactional
     public void deleteDepartment(Long id) {
+        shardRouter.routeTo(shardRouter.shardFor(id));
         Department department = departmentRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Department not found with ID: " + id));
 
+        // Counted from the employees table rather than the denormalized headcount: deleting cascades to
+        // the department's employees, so a drifted headcount must not let a staffed department through
         long employeeCount = employeeRepository.countByDepartmentId(id);
         if (employeeCount > 0) {
             throw new ValidationException("Cannot delete department as there are " + employeeCount + " employees assigned to it.");
         }
         departmentRepository.delete(department);
+        shardMaintenanceService.replicateDepartmentAfterCommit(id, shardRouter.shardFor(id));
+    }
+
+    // The department head may live on another shard, so it is referenced by ID rather than loaded
+    private Employee findEmployee(Long employeeId) {
+        if (!shardRouter.isSharded()) {
+            return employeeRepository.findById(employeeId)
+                    .orElseThrow(() -> new ResourceNotFoundException("Employee not found with ID: " + employeeId));
+        }
+        if (shardRouter.findEmployeeShard(employeeId).isEmpty()) {
+            throw new ResourceNotFoundException("Employee not found with ID: " + employeeId);
+        }
+        return employeeRepository.getReferenceById(employeeId);
+    }
+
+    // Sharded listing: the page comes from shard 0's replica, then each department is mapped on the
+    // shard owning it (for its totals and employees), one parallel read per shard. Workers only name
+    // employees from the directory: a cross-shard name lookup would nest onAllShards on the same pool.
+    // Whatever the directory misses is resolved afterwards, in one lookup from this thread.
+    private List<DepartmentResponseDTO> mapOnOwningShards(List<Department> departments, boolean expandEmployees) {
+        List<Long> ids = departments.stream().map(Department::getId).collect(Collectors.toList());
+        Function<Employee, String> directoryName = employee -> employeeNameDirectory.findName(employee.getId());
+        List<Map<Long, DepartmentResponseDTO>> mappedByShard = shardRouter.onAllShards(true, shard ->
+                departmentRepository.findAllById(ids.stream()
+                                .filter(id -> shardRouter.shardFor(id) == shard)
+                                .collect(Collectors.toList()))
+                        .stream()
+                        .collect(Collectors.toMap(Department::getId,
+                                department -> mapToDepartmentResponseDTO(department, expandEmployees, directoryName))));
+
+        List<DepartmentResponseDTO> content = new ArrayList<>();
+        for (Long id : ids) {
+            DepartmentResponseDTO dto = mappedByShard.get(shardRouter.shardFor(id)).get(id);
+            if (dto != null) {
+                content.add(dto);
+            }
+        }
+
+        List<EmployeeLookupDTO> unnamed = new ArrayList<>();
+        for (DepartmentResponseDTO dto : content) {
+            if (dto.getDepartmentHead() != null && dto.getDepartmentHead().getName() == null) {
+                unnamed.add(dto.getDepartmentHead());
+            }
+            if (dto.getEmployees() != null) {
+                for (EmployeeResponseDTO employee : dto.getEmployees()) {
+                    if (employee.getReportingManager() != null && employee.getReportingManager().getName() == null) {
+                        unnamed.add(employee.getReportingManager());
+                    }
+                }
+            }
+        }
+        if (!unnamed.isEmpty()) {
+            Map<Long, String> names = shardRouter.findEmployeeNames(
+                    unnamed.stream().map(EmployeeLookupDTO::getId).collect(Collectors.toSet()));
+            unnamed.forEach(reference -> reference.setName(names.get(reference.getId())));
+        }
+        return content;
     }
 
     // --- Mappers ---
     private DepartmentResponseDTO mapToDepartmentResponseDTO(Department department, boolean expandEmployees) {
+        return mapToDepartmentResponseDTO(department, expandEmployees, employeeNameDirectory::nameOf);
+    }
+
+    private DepartmentResponseDTO mapToDepartmentResponseDTO(Department department, boolean expandEmployees,
+                                                             Function<Employee, String> employeeName) {
+        if (expandEmployees) {
+            // Each expansion loads a department's employees; stop between departments once the deadline passes
+            RequestDeadline.checkpoint("expanding department " + department.getId());
+        }
         DepartmentResponseDTO dto = new DepartmentResponseDTO();
         dto.setId(department.getId());
         dto.setName(department.getName());
         dto.setCreationDate(department.getCreationDate());
+        dto.setHeadcount(department.getHeadcount());
+        dto.setTotalSalary(department.getTotalSalary());
 
         if (department.getDepartmentHead() != null) {
-            dto.setDepartmentHead(new EmployeeLookupDTO(department.getDepartmentHead().getId(), department.getDepartmentHead().getName()));
+            dto.setDepartmentHead(new EmployeeLookupDTO(department.getDepartmentHead().getId(), employeeName.apply(department.getDepartmentHead())));
         }
 
         if (expandEmployees && department.getEmployees() != null) {
             // Ensure employees are loaded (lazy loading might require this depending on context)
             department.getEmployees().size(); // Trigger initialization of the collection if lazily loaded
-            dto.setEmployees(department.getEmployees().stream()
-                    .map(this::mapEmployeeToEmployeeResponseDTO)
-                    .collect(Collectors.toList()));
+            // Managers are named from the directory, wherever (and on whichever shard) they live
+            dto.setEmployees(DtoMappingEvent.mapAll("EmployeeResponseDTO", department.getEmployees(),
+                    employee -> mapEmployeeToEmployeeResponseDTO(employee, employeeName)));
         }
         return dto;
     }
 
     // Helper method for mapping Employee to EmployeeResponseDTO
     // Duplicated from EmployeeService for now, can be refactored into a separate mapper utility
-    private EmployeeResponseDTO mapEmployeeToEmployeeResponseDTO(Employee employee) {
+    private EmployeeResponseDTO mapEmployeeToEmployeeResponseDTO(Employee employee, Function<Employee, String> reportingManagerName) {
         EmployeeResponseDTO dto = new EmployeeResponseDTO();
         dto.setId(employee.getId());
         dto.setName(employee.getName());
@@ -146,7 +253,7 @@ public class DepartmentService {
             dto.setDepartment(new DepartmentLookupDTO(employee.getDepartment().getId(), employee.getDepartment().getName()));
         }
         if (employee.getReportingManager() != null) {
-            dto.setReportingManager(new EmployeeLookupDTO(employee.getReportingManager().getId(), employee.getReportingManager().getName()));
+            dto.setReportingManager(new EmployeeLookupDTO(employee.getReportingManager().getId(), reportingManagerName.apply(employee.getReportingManager())));
         }
         return dto;
     }
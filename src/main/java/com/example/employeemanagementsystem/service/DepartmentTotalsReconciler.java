@@ -0,0 +1,61 @@
+package com.example.employeemanagementsystem.service;
+
+import com.example.employeemanagementsystem.entity.Department;
+import com.example.employeemanagementsystem.repository.DepartmentRepository;
+import com.example.employeemanagementsystem.repository.EmployeeRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// Detects and repairs drift between the denormalized Department.headcount/totalSalary counters
+// and the employees table (e.g. after manual SQL fixes or a bug in a write path).
+@Component
+public class DepartmentTotalsReconciler {
+
+    private static final Logger log = LoggerFactory.getLogger(DepartmentTotalsReconciler.class);
+
+    private final DepartmentRepository departmentRepository;
+    private final EmployeeRepository employeeRepository;
+
+    public DepartmentTotalsReconciler(DepartmentRepository departmentRepository, EmployeeRepository employeeRepository) {
+        this.departmentRepository = departmentRepository;
+        this.employeeRepository = employeeRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${app.department-totals.reconcile-interval-ms:300000}",
+            initialDelayString = "${app.department-totals.reconcile-interval-ms:300000}")
+    @Transactional
+    public void reconcile() {
+        Map<Long, EmployeeRepository.DepartmentTotals> actualTotals = employeeRepository.aggregateTotalsByDepartment().stream()
+                .collect(Collectors.toMap(EmployeeRepository.DepartmentTotals::getDepartmentId, Function.identity()));
+
+        int repaired = 0;
+        for (Department department : departmentRepository.findAll()) {
+            EmployeeRepository.DepartmentTotals actual = actualTotals.get(department.getId());
+            long actualHeadcount = actual != null ? actual.getHeadcount() : 0L;
+            BigDecimal actualSalary = actual != null && actual.getTotalSalary() != null ? actual.getTotalSalary() : BigDecimal.ZERO;
+
+            if (department.getHeadcount() != actualHeadcount || department.getTotalSalary().compareTo(actualSalary) != 0) {
+                log.warn("Department {} totals drifted: stored headcount={} totalSalary={}, actual headcount={} totalSalary={}. Repairing.",
+                        department.getId(), department.getHeadcount(), department.getTotalSalary(), actualHeadcount, actualSalary);
+                // Recompute in a single statement rather than writing the values read above,
+                // so an employee write racing with this job is not overwritten
+                departmentRepository.recomputeTotals(department.getId());
+                repaired++;
+            }
+        }
+        if (repaired > 0) {
+            log.info("Repaired headcount/salary totals for {} department(s).", repaired);
+        }
+    }
+}
@@ -0,0 +1,196 @@
+package com.example.employeemanagementsystem.service;
+
+import com.example.employeemanagementsystem.cache.EmployeeNameDirectory;
+import com.example.employeemanagementsystem.cache.EmployeeResponseCache;
+import com.example.employeemanagementsystem.config.RequestDeadline;
+import com.example.employeemanagementsystem.config.ShardRouter;
+import com.example.employeemanagementsystem.dto.ArchivedEmployeeResponseDTO;
+import com.example.employeemanagementsystem.dto.DepartmentLookupDTO;
+import com.example.employeemanagementsystem.dto.EmployeeOffboardRequestDTO;
+import com.example.employeemanagementsystem.dto.EmployeeOffboardResponseDTO;
+import com.example.employeemanagementsystem.dto.PagedResponse;
+import com.example.employeemanagementsystem.entity.ArchivedEmployee;
+import com.example.employeemanagementsystem.exception.ResourceNotFoundException;
+import com.example.employeemanagementsystem.exception.ValidationException;
+import com.example.employeemanagementsystem.repository.ArchivedEmployeeRepository;
+import com.example.employeemanagementsystem.repository.DepartmentRepository;
+import com.example.employeemanagementsystem.repository.EmployeeArchiveJdbcRepository;
+import com.example.employeemanagementsystem.repository.EmployeeRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+// Offboarding: moves departed employees from the employees table into employees_archive.
+// Each batch runs in its own transaction so a large offboarding never holds locks on the
+// hot table for long.
+@Service
+public class EmployeeArchiveService {
+
+    private final EmployeeRepository employeeRepository;
+    private final DepartmentRepository departmentRepository;
+    private final ArchivedEmployeeRepository archivedEmployeeRepository;
+    private final EmployeeArchiveJdbcRepository employeeArchiveJdbcRepository;
+    private final EmployeeResponseCache employeeResponseCache;
+    private final EmployeeHistoryService employeeHistoryService;
+    private final SalaryBandService salaryBandService;
+    private final EmployeeNameDirectory employeeNameDirectory;
+    private final ShardRouter shardRouter;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    public EmployeeArchiveService(EmployeeRepository employeeRepository,
+                                  DepartmentRepository departmentRepository,
+                                  ArchivedEmployeeRepository archivedEmployeeRepository,
+                                  EmployeeArchiveJdbcRepository employeeArchiveJdbcRepository,
+                                  EmployeeResponseCache employeeResponseCache,
+                                  EmployeeHistoryService employeeHistoryService,
+                                  SalaryBandService salaryBandService,
+                                  EmployeeNameDirectory employeeNameDirectory,
+                                  ShardRouter shardRouter,
+                                  PlatformTransactionManager transactionManager,
+                                  @Value("${app.archive.batch-size:500}") int batchSize) {
+        this.employeeRepository = employeeRepository;
+        this.departmentRepository = departmentRepository;
+        this.archivedEmployeeRepository = archivedEmployeeRepository;
+        this.employeeArchiveJdbcRepository = employeeArchiveJdbcRepository;
+        this.employeeResponseCache = employeeResponseCache;
+        this.employeeHistoryService = employeeHistoryService;
+        this.salaryBandService = salaryBandService;
+        this.employeeNameDirectory = employeeNameDirectory;
+        this.shardRouter = shardRouter;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+    }
+
+    public EmployeeOffboardResponseDTO offboardEmployees(EmployeeOffboardRequestDTO requestDTO) {
+        if (shardRouter.isSharded()) {
+            throw new ValidationException("Offboarding is not supported in sharded mode.");
+        }
+        LocalDate departureDate = requestDTO.getDepartureDate() != null ? requestDTO.getDepartureDate() : LocalDate.now();
+        if (departureDate.isAfter(LocalDate.now())) {
+            throw new ValidationException("Departure date cannot be in the future.");
+        }
+
+        List<Long> employeeIds = new ArrayList<>(new TreeSet<>(requestDTO.getEmployeeIds()));
+        Set<Long> foundIds = new HashSet<>();
+        int[] totals = new int[3]; // archived, reparented reports, cleared department heads
+
+        for (int from = 0; from < employeeIds.size(); from += batchSize) {
+            // Earlier batches stay committed; a retry reports their employees under notFoundIds
+            RequestDeadline.checkpoint("offboarding batch starting at employee " + employeeIds.get(from));
+            List<Long> batch = employeeIds.subList(from, Math.min(from + batchSize, employeeIds.size()));
+            transactionTemplate.executeWithoutResult(status -> {
+                List<Long> existingIds = employeeRepository.findExistingIds(batch);
+                if (existingIds.isEmpty()) {
+                    return;
+                }
+                foundIds.addAll(existingIds);
+                List<Long> departmentIds = employeeRepository.findDepartmentIdsByEmployeeIds(existingIds);
+                List<Long> reportIds = employeeRepository.findDirectReportIds(existingIds);
+                LocalDateTime archivedAt = LocalDateTime.now();
+
+                // Departing employees' history ends here; their reports get a version with the new manager
+                employeeHistoryService.closeVersions(existingIds, archivedAt);
+                employeeHistoryService.closeVersions(reportIds, archivedAt);
+
+                totals[0] += employeeArchiveJdbcRepository.copyToArchive(existingIds, departureDate, archivedAt);
+                reparentDirectReports(existingIds);
+                totals[1] += reportIds.size(); // Each moves once overall, however many passes it took
+                totals[2] += departmentRepository.clearDepartmentHeads(existingIds);
+                employeeRepository.deleteByIdIn(existingIds);
+                employeeHistoryService.openVersions(reportIds, archivedAt);
+
+                departmentIds.stream().sorted().forEach(departmentRepository::recomputeTotals);
+                // Archived entries, and every report whose manager just changed, are stale
+                employeeResponseCache.evictAllAfterCommit();
+                employeeNameDirectory.removeAfterCommit(existingIds);
+            });
+        }
+        if (totals[0] > 0) {
+            // Once for the whole request rather than per batch; batches are already committed here
+            salaryBandService.rebuildAfterCommit();
+        }
+
+        List<Long> notFoundIds = employeeIds.stream()
+                .filter(id -> !foundIds.contains(id))
+                .collect(Collectors.toList());
+        return new EmployeeOffboardResponseDTO(totals[0], totals[1], totals[2], notFoundIds);
+    }
+
+    // A departing manager's reports move up to that manager's own manager. If that manager is
+    // departing in the same batch the reports are still pointing into the batch, so repeat; only
+    // remaining employees are moved, so a pass that finds none ends it. The chain is at most
+    // batch-size long, and reports still pointing into the batch after that (at a reporting cycle
+    // among departing managers) are cleared.
+    private void reparentDirectReports(List<Long> departingIds) {
+        for (int pass = 0; pass <= departingIds.size(); pass++) {
+            if (employeeRepository.reparentDirectReports(departingIds) == 0) {
+                return;
+            }
+        }
+        employeeRepository.clearReportingManager(departingIds);
+    }
+
+    @Transactional(readOnly = true)
+    public PagedResponse<ArchivedEmployeeResponseDTO> getArchivedEmployees(int page, int size) {
+        Pageable pageable = PageRequest.of(page, size, Sort.by("id"));
+        Page<ArchivedEmployee> archivedPage = archivedEmployeeRepository.findAll(pageable);
+
+        List<ArchivedEmployeeResponseDTO> content = archivedPage.getContent().stream()
+                .map(this::mapToArchivedEmployeeResponseDTO)
+                .collect(Collectors.toList());
+
+        return new PagedResponse<>(
+                content,
+                archivedPage.getNumber(),
+                archivedPage.getSize(),
+                archivedPage.getTotalElements(),
+                archivedPage.getTotalPages(),
+                archivedPage.isLast(),
+                archivedPage.isFirst()
+        );
+    }
+
+    @Transactional(readOnly = true)
+    public ArchivedEmployeeResponseDTO getArchivedEmployeeById(Long id) {
+        ArchivedEmployee archivedEmployee = archivedEmployeeRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Archived employee not found with ID: " + id));
+        return mapToArchivedEmployeeResponseDTO(archivedEmployee);
+    }
+
+    // --- Mappers ---
+    private ArchivedEmployeeResponseDTO mapToArchivedEmployeeResponseDTO(ArchivedEmployee archivedEmployee) {
+        DepartmentLookupDTO department = archivedEmployee.getDepartmentId() != null
+                ? new DepartmentLookupDTO(archivedEmployee.getDepartmentId(), archivedEmployee.getDepartmentName())
+                : null;
+        return new ArchivedEmployeeResponseDTO(
+                archivedEmployee.getId(),
+                archivedEmployee.getName(),
+                archivedEmployee.getDateOfBirth(),
+                archivedEmployee.getSalary(),
+                department,
+                archivedEmployee.getAddress(),
+                archivedEmployee.getRole(),
+                archivedEmployee.getJoiningDate(),
+                archivedEmployee.getYearlyBonusPercentage(),
+                archivedEmployee.getReportingManagerId(),
+                archivedEmployee.getDepartureDate(),
+                archivedEmployee.getArchivedAt()
+        );
+    }
+}
@@ -0,0 +1,236 @@
+package com.example.employeemanagementsystem.service;
+
+import com.example.employeemanagementsystem.cache.EmployeeNameDirectory;
+import com.example.employeemanagementsystem.config.ShardRouter;
+import com.example.employeemanagementsystem.dto.DepartmentLookupDTO;
+import com.example.employeemanagementsystem.dto.EmployeeHistoryDTO;
+import com.example.employeemanagementsystem.dto.EmployeeLookupDTO;
+import com.example.employeemanagementsystem.dto.EmployeeResponseDTO;
+import com.example.employeemanagementsystem.dto.PagedResponse;
+import com.example.employeemanagementsystem.entity.Employee;
+import com.example.employeemanagementsystem.entity.EmployeeHistory;
+import com.example.employeemanagementsystem.exception.ResourceNotFoundException;
+import com.example.employeemanagementsystem.exception.ValidationException;
+import com.example.employeemanagementsystem.repository.EmployeeHistoryJdbcRepository;
+import com.example.employeemanagementsystem.repository.EmployeeHistoryRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+// Append-only change history of employees. Writers call in from inside their own transaction
+// so a change and its history version commit (or roll back) together.
+@Service
+public class EmployeeHistoryService {
+
+    private final EmployeeHistoryRepository employeeHistoryRepository;
+    private final EmployeeHistoryJdbcRepository employeeHistoryJdbcRepository;
+    private final EmployeeNameDirectory employeeNameDirectory;
+    private final ShardRouter shardRouter;
+    private final EntityManager entityManager;
+
+    public EmployeeHistoryService(EmployeeHistoryRepository employeeHistoryRepository,
+                                  EmployeeHistoryJdbcRepository employeeHistoryJdbcRepository,
+                                  EmployeeNameDirectory employeeNameDirectory,
+                                  ShardRouter shardRouter,
+                                  EntityManager entityManager) {
+        this.employeeHistoryRepository = employeeHistoryRepository;
+        this.employeeHistoryJdbcRepository = employeeHistoryJdbcRepository;
+        this.employeeNameDirectory = employeeNameDirectory;
+        this.shardRouter = shardRouter;
+        this.entityManager = entityManager;
+    }
+
+    // Records the employee's current state, unless it matches the open version already.
+    // `employee` must be managed by the caller's transaction: its row is locked first, so concurrent
+    // changes to the same employee close and open versions one after the other instead of both
+    // closing the same open version (the unique (employee_id, valid_to) key rejects that anyway).
+    @Transactional
+    public void recordChange(Employee employee) {
+        entityManager.lock(employee, LockModeType.PESSIMISTIC_WRITE);
+        LocalDateTime now = LocalDateTime.now();
+        EmployeeHistory current = employeeHistoryRepository
+                .findByEmployeeIdAndValidTo(employee.getId(), EmployeeHistory.OPEN_END)
+                .orElse(null);
+
+        LocalDateTime validFrom;
+        if (current == null) {
+            // First version: the record is taken to hold since the employee joined
+            LocalDateTime joined = employee.getJoiningDate().atStartOfDay();
+            validFrom = joined.isBefore(now) ? joined : now;
+        } else if (sameState(current, employee)) {
+            return;
+        } else {
+            current.setValidTo(now);
+            validFrom = now;
+        }
+        employeeHistoryRepository.save(toVersion(employee, validFrom));
+    }
+
+    @Transactional
+    public void closeVersions(List<Long> employeeIds, LocalDateTime closedAt) {
+        if (!employeeIds.isEmpty()) {
+            employeeHistoryJdbcRepository.closeCurrentVersions(employeeIds, closedAt);
+        }
+    }
+
+    @Transactional
+    public void openVersions(List<Long> employeeIds, LocalDateTime validFrom) {
+        if (!employeeIds.isEmpty()) {
+            employeeHistoryJdbcRepository.openVersions(employeeIds, validFrom);
+        }
+    }
+
+    // After a set-based update whose matched IDs were closed with a subquery
+    @Transactional
+    public void openMissingVersions(LocalDateTime validFrom) {
+        employeeHistoryJdbcRepository.openMissingVersions(validFrom);
+    }
+
+    // Employees seeded or created before history existed get an initial version
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void backfillHistory() {
+        employeeHistoryJdbcRepository.openMissingVersionsFromJoiningDate(LocalDateTime.now());
+    }
+
+    @Transactional(readOnly = true)
+    public List<EmployeeHistoryDTO> getHistory(Long employeeId) {
+        rejectWhenSharded();
+        List<EmployeeHistory> versions = employeeHistoryRepository.findByEmployeeIdOrderByValidFromAsc(employeeId);
+        if (versions.isEmpty()) {
+            throw new ResourceNotFoundException("No history found for employee with ID: " + employeeId);
+        }
+        return versions.stream()
+                .map(this::mapToEmployeeHistoryDTO)
+                .collect(Collectors.toList());
+    }
+
+    // Employees as they stood at the end of the given day, including ones archived since
+    @Transactional(readOnly = true)
+    public PagedResponse<EmployeeResponseDTO> getEmployeesAsOf(LocalDate asOf, int page, int size, boolean lookup) {
+        rejectWhenSharded();
+        Pageable pageable = PageRequest.of(page, size, Sort.by("employeeId"));
+        Page<EmployeeHistory> versionPage = employeeHistoryRepository.findValidAt(asOf.plusDays(1).atStartOfDay(), pageable);
+
+        List<?> content;
+        if (lookup) {
+            content = versionPage.getContent().stream()
+                    .map(version -> new EmployeeLookupDTO(version.getEmployeeId(), version.getName()))
+                    .collect(Collectors.toList());
+        } else {
+            content = versionPage.getContent().stream()
+                    .map(this::mapToEmployeeResponseDTO)
+                    .collect(Collectors.toList());
+        }
+
+        return new PagedResponse<>(
+                (List<EmployeeResponseDTO>) content, // Cast is safe because of the conditional mapping
+                versionPage.getNumber(),
+                versionPage.getSize(),
+                versionPage.getTotalElements(),
+                versionPage.getTotalPages(),
+                versionPage.isLast(),
+                versionPage.isFirst()
+        );
+    }
+
+    // History is recorded per shard but read from shard 0 only, so sharded answers would be partial
+    private void rejectWhenSharded() {
+        if (shardRouter.isSharded()) {
+            throw new ValidationException("Employee history is not supported in sharded mode.");
+        }
+    }
+
+    private static boolean sameState(EmployeeHistory version, Employee employee) {
+        return Objects.equals(version.getName(), employee.getName())
+                && Objects.equals(version.getDateOfBirth(), employee.getDateOfBirth())
+                && version.getSalary().compareTo(employee.getSalary()) == 0
+                && Objects.equals(version.getDepartmentId(), employee.getDepartment() != null ? employee.getDepartment().getId() : null)
+                && Objects.equals(version.getAddress(), employee.getAddress())
+                && Objects.equals(version.getRole(), employee.getRole())
+                && Objects.equals(version.getJoiningDate(), employee.getJoiningDate())
+                && Objects.equals(version.getYearlyBonusPercentage(), employee.getYearlyBonusPercentage())
+                && Objects.equals(version.getReportingManagerId(), employee.getReportingManager() != null ? employee.getReportingManager().getId() : null);
+    }
+
+    private EmployeeHistory toVersion(Employee employee, LocalDateTime validFrom) {
+        EmployeeHistory version = new EmployeeHistory();
+        version.setEmployeeId(employee.getId());
+        version.setName(employee.getName());
+        version.setDateOfBirth(employee.getDateOfBirth());
+        version.setSalary(employee.getSalary());
+        if (employee.getDepartment() != null) {
+            version.setDepartmentId(employee.getDepartment().getId());
+            version.setDepartmentName(employee.getDepartment().getName());
+        }
+        version.setAddress(employee.getAddress());
+        version.setRole(employee.getRole());
+        version.setJoiningDate(employee.getJoiningDate());
+        version.setYearlyBonusPercentage(employee.getYearlyBonusPercentage());
+        if (employee.getReportingManager() != null) {
+            version.setReportingManagerId(employee.getReportingManager().getId());
+            version.setReportingManagerName(employeeNameDirectory.nameOf(employee.getReportingManager()));
+        }
+        version.setValidFrom(validFrom);
+        version.setValidTo(EmployeeHistory.OPEN_END);
+        return version;
+    }
+
+    // --- Mappers ---
+    private EmployeeHistoryDTO mapToEmployeeHistoryDTO(EmployeeHistory version) {
+        return new EmployeeHistoryDTO(
+                version.getEmployeeId(),
+                version.getName(),
+                version.getDateOfBirth(),
+                version.getSalary(),
+                departmentOf(version),
+                version.getAddress(),
+                version.getRole(),
+                version.getJoiningDate(),
+                version.getYearlyBonusPercentage(),
+                reportingManagerOf(version),
+                version.getValidFrom(),
+                EmployeeHistory.OPEN_END.equals(version.getValidTo()) ? null : version.getValidTo()
+        );
+    }
+
+    private EmployeeResponseDTO mapToEmployeeResponseDTO(EmployeeHistory version) {
+        EmployeeResponseDTO dto = new EmployeeResponseDTO();
+        dto.setId(version.getEmployeeId());
+        dto.setName(version.getName());
+        dto.setDateOfBirth(version.getDateOfBirth());
+        dto.setSalary(version.getSalary());
+        dto.setAddress(version.getAddress());
+        dto.setRole(version.getRole());
+        dto.setJoiningDate(version.getJoiningDate());
+        dto.setYearlyBonusPercentage(version.getYearlyBonusPercentage());
+        dto.setDepartment(departmentOf(version));
+        dto.setReportingManager(reportingManagerOf(version));
+        return dto;
+    }
+
+    private static DepartmentLookupDTO departmentOf(EmployeeHistory version) {
+        return version.getDepartmentId() != null
+                ? new DepartmentLookupDTO(version.getDepartmentId(), version.getDepartmentName())
+                : null;
+    }
+
+    private static EmployeeLookupDTO reportingManagerOf(EmployeeHistory version) {
+        return version.getReportingManagerId() != null
+                ? new EmployeeLookupDTO(version.getReportingManagerId(), version.getReportingManagerName())
+                : null;
+    }
+}
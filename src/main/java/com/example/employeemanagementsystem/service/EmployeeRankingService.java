@@ -0,0 +1,96 @@
+package com.example.employeemanagementsystem.service;
+
+import com.example.employeemanagementsystem.config.ShardRouter;
+import com.example.employeemanagementsystem.dto.DepartmentLookupDTO;
+import com.example.employeemanagementsystem.dto.RankedEmployeeDTO;
+import com.example.employeemanagementsystem.dto.TopEmployeesGroupDTO;
+import com.example.employeemanagementsystem.exception.ValidationException;
+import com.example.employeemanagementsystem.repository.EmployeeRankingJdbcRepository;
+import com.example.employeemanagementsystem.repository.EmployeeRankingJdbcRepository.GroupBy;
+import com.example.employeemanagementsystem.repository.EmployeeRankingJdbcRepository.RankBy;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+@Service
+public class EmployeeRankingService {
+
+    private static final int MAX_K = 100;
+    private static final String UNASSIGNED = "Unassigned";
+
+    private final EmployeeRankingJdbcRepository employeeRankingJdbcRepository;
+    private final ShardRouter shardRouter;
+
+    public EmployeeRankingService(EmployeeRankingJdbcRepository employeeRankingJdbcRepository, ShardRouter shardRouter) {
+        this.employeeRankingJdbcRepository = employeeRankingJdbcRepository;
+        this.shardRouter = shardRouter;
+    }
+
+    // e.g. top 5 earners per department, or the 10 longest-serving employees per role.
+    // The database ranks and filters; only groups x k rows are ever read back.
+    @Transactional(readOnly = true)
+    public List<TopEmployeesGroupDTO> getTopEmployees(String by, String groupBy, int k) {
+        if (shardRouter.isSharded()) {
+            throw new ValidationException("Rankings are not supported in sharded mode.");
+        }
+        if (k < 1 || k > MAX_K) {
+            throw new ValidationException("k must be between 1 and " + MAX_K + ".");
+        }
+        RankBy rankBy = parseRankBy(by);
+        GroupBy grouping = parseGroupBy(groupBy);
+
+        List<TopEmployeesGroupDTO> groups = new ArrayList<>();
+        employeeRankingJdbcRepository.findTopPerGroup(rankBy, grouping, k, rs -> {
+            long departmentIdValue = rs.getLong("department_id");
+            Long departmentId = rs.wasNull() ? null : departmentIdValue;
+            String departmentName = rs.getString("department_name");
+            String role = rs.getString("role");
+
+            TopEmployeesGroupDTO current = groups.isEmpty() ? null : groups.get(groups.size() - 1);
+            boolean newGroup = grouping == GroupBy.DEPARTMENT
+                    ? current == null || !Objects.equals(current.getDepartmentId(), departmentId)
+                    : current == null || !Objects.equals(current.getGroup(), role);
+            if (newGroup) {
+                current = grouping == GroupBy.DEPARTMENT
+                        ? new TopEmployeesGroupDTO(departmentId != null ? departmentName : UNASSIGNED, departmentId, new ArrayList<>())
+                        : new TopEmployeesGroupDTO(role, null, new ArrayList<>());
+                groups.add(current);
+            }
+
+            current.getEmployees().add(new RankedEmployeeDTO(
+                    rs.getInt("rank_in_group"),
+                    rs.getLong("id"),
+                    rs.getString("name"),
+                    role,
+                    departmentId != null ? new DepartmentLookupDTO(departmentId, departmentName) : null,
+                    rs.getBigDecimal("salary"),
+                    rs.getObject("joining_date", LocalDate.class)
+            ));
+        });
+        return groups;
+    }
+
+    private static RankBy parseRankBy(String by) {
+        if ("salary".equalsIgnoreCase(by)) {
+            return RankBy.SALARY;
+        }
+        if ("joiningDate".equalsIgnoreCase(by)) {
+            return RankBy.JOINING_DATE;
+        }
+        throw new ValidationException("by must be 'salary' or 'joiningDate'.");
+    }
+
+    private static GroupBy parseGroupBy(String groupBy) {
+        if ("department".equalsIgnoreCase(groupBy)) {
+            return GroupBy.DEPARTMENT;
+        }
+        if ("role".equalsIgnoreCase(groupBy)) {
+            return GroupBy.ROLE;
+        }
+        throw new ValidationException("groupBy must be 'department' or 'role'.");
+    }
+}
@@ -1,34 +1,82 @@
 package com.example.employeemanagementsystem.service;
 
+import com.example.employeemanagementsystem.cache.EmployeeNameDirectory;
+import com.example.employeemanagementsystem.cache.EmployeeResponseCache;
+import com.example.employeemanagementsystem.config.ReadYourWritesContext;
+import com.example.employeemanagementsystem.config.RequestDeadline;
+import com.example.employeemanagementsystem.config.ShardRouter;
 import com.example.employeemanagementsystem.dto.*;
 import com.example.employeemanagementsystem.entity.Department;
 import com.example.employeemanagementsystem.entity.Employee;
 import com.example.employeemanagementsystem.exception.ResourceNotFoundException;
 import com.example.employeemanagementsystem.exception.ValidationException;
+import com.example.employeemanagementsystem.jfr.DtoMappingEvent;
+import com.example.employeemanagementsystem.json.EmployeePageJsonWriter;
 import com.example.employeemanagementsystem.repository.DepartmentRepository;
+import com.example.employeemanagementsystem.repository.EmployeeBulkRepository;
+import com.example.employeemanagementsystem.repository.EmployeePageJdbcRepository;
 import com.example.employeemanagementsystem.repository.EmployeeRepository;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Function;
 
 @Service
 public class EmployeeService {
 
+    private static final Comparator<EmployeeResponseDTO> BY_ID = Comparator.comparing(EmployeeResponseDTO::getId);
+
     private final EmployeeRepository employeeRepository;
     private final DepartmentRepository departmentRepository; // To link employees to departments
+    private final EmployeeBulkRepository employeeBulkRepository;
+    private final EmployeeResponseCache employeeResponseCache;
+    private final EmployeeHistoryService employeeHistoryService;
+    private final EmployeePageJdbcRepository employeePageJdbcRepository;
+    private final EmployeePageJsonWriter employeePageJsonWriter;
+    private final ShardRouter shardRouter;
+    private final ShardMaintenanceService shardMaintenanceService;
+    private final SalaryBandService salaryBandService;
+    private final EmployeeNameDirectory employeeNameDirectory;
 
-    public EmployeeService(EmployeeRepository employeeRepository, DepartmentRepository departmentRepository) {
+    public EmployeeService(EmployeeRepository employeeRepository, DepartmentRepository departmentRepository,
+                           EmployeeBulkRepository employeeBulkRepository, EmployeeResponseCache employeeResponseCache,
+                           EmployeeHistoryService employeeHistoryService, EmployeePageJdbcRepository employeePageJdbcRepository,
+                           EmployeePageJsonWriter employeePageJsonWriter, ShardRouter shardRouter,
+                           ShardMaintenanceService shardMaintenanceService, SalaryBandService salaryBandService,
+                           EmployeeNameDirectory employeeNameDirectory) {
         this.employeeRepository = employeeRepository;
         this.departmentRepository = departmentRepository;
+        this.employeeBulkRepository = employeeBulkRepository;
+        this.employeeResponseCache = employeeResponseCache;
+        this.employeeHistoryService = employeeHistoryService;
+        this.employeePageJdbcRepository = employeePageJdbcRepository;
+        this.employeePageJsonWriter = employeePageJsonWriter;
+        this.shardRouter = shardRouter;
+        this.shardMaintenanceService = shardMaintenanceService;
+        this.salaryBandService = salaryBandService;
+        this.employeeNameDirectory = employeeNameDirectory;
     }
 
     @Transactional
     public EmployeeResponseDTO createEmployee(EmployeeCreateRequestDTO requestDTO) {
+        shardRouter.routeTo(shardRouter.shardFor(requestDTO.getDepartmentId()));
         Employee employee = new Employee();
         employee.setName(requestDTO.getName());
         employee.setDateOfBirth(requestDTO.getDateOfBirth());
@@ -46,32 +94,35 @@ public class EmployeeService {
         }
 
         if (requestDTO.getReportingManagerId() != null) {
-            Employee reportingManager = employeeRepository.findById(requestDTO.getReportingManagerId())
-                    .orElseThrow(() -> new ResourceNotFoundException("Reporting Manager not found with ID: " + requestDTO.getReportingManagerId()));
+            Employee reportingManager = findReportingManager(requestDTO.getReportingManagerId(), "Reporting Manager not found with ID: ");
             employee.setReportingManager(reportingManager);
         }
 
         Employee savedEmployee = employeeRepository.save(employee);
+        updateDepartmentTotals(null, BigDecimal.ZERO, savedEmployee.getDepartment(), savedEmployee.getSalary());
+        employeeHistoryService.recordChange(savedEmployee);
+        salaryBandService.recordCreatedAfterCommit(savedEmployee);
+        employeeNameDirectory.putAfterCommit(savedEmployee.getId(), savedEmployee.getName());
         return mapToEmployeeResponseDTO(savedEmployee);
     }
 
+    @Transactional(readOnly = true)
     public PagedResponse<EmployeeResponseDTO> getAllEmployees(int page, int size, boolean lookup) {
-        Pageable pageable = PageRequest.of(page, size);
-        Page<Employee> employeePage = employeeRepository.findAll(pageable);
-
-        List<?> content;
         if (lookup) {
-            content = employeePage.getContent().stream()
-                    .map(this::mapToEmployeeLookupDTO)
-                    .collect(Collectors.toList());
-        } else {
-            content = employeePage.getContent().stream()
-                    .map(this::mapToEmployeeResponseDTO)
-                    .collect(Collectors.toList());
+            PagedResponse<EmployeeLookupDTO> lookups = getEmployeeLookups(page, size);
+            return (PagedResponse<EmployeeResponseDTO>) (PagedResponse<?>) lookups; // Lookup listings share the endpoint's response type
+        }
+        if (shardRouter.isSharded()) {
+            return getAllEmployeesSharded(page, size);
         }
+        Pageable pageable = PageRequest.of(page, size, Sort.by("id"));
+        Page<Employee> employeePage = employeeRepository.findAll(pageable);
+
+        List<EmployeeResponseDTO> content = DtoMappingEvent.mapAll("EmployeeResponseDTO",
+                employeePage.getContent(), this::mapToEmployeeResponseDTO);
 
         return new PagedResponse<>(
-                (List<EmployeeResponseDTO>) content, // Cast is safe because of the conditional mapping
+                content,
                 employeePage.getNumber(),
                 employeePage.getSize(),
                 employeePage.getTotalElements(),
@@ -81,18 +132,68 @@ public class EmployeeService {
         );
     }
 
+    // Same page and JSON as getAllEmployees, serialized straight from the result set into `out`
+    @Transactional(readOnly = true)
+    public void writeAllEmployees(int page, int size, boolean lookup, OutputStream out) throws IOException {
+        Pageable pageable = PageRequest.of(page, size);
+        if (lookup) {
+            employeePageJsonWriter.writeLookupPage(out, pageable, employeeNameDirectory.findPage(pageable.getOffset(), size));
+            return;
+        }
+        if (shardRouter.isSharded()) {
+            employeePageJsonWriter.writeResponse(out, getAllEmployeesSharded(page, size));
+            return;
+        }
+        employeePageJsonWriter.writePage(out, pageable,
+                rowHandler -> employeePageJdbcRepository.forEachEmployee(pageable.getOffset(), pageable.getPageSize(), rowHandler),
+                employeeRepository::count);
+    }
+
+    @Transactional(readOnly = true)
     public EmployeeResponseDTO getEmployeeById(Long id) {
-        Employee employee = employeeRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Employee not found with ID: " + id));
-        return mapToEmployeeResponseDTO(employee);
+        return employeeResponseCache.get(id, this::loadEmployeeResponse);
+    }
+
+    // Cache entries live until evicted, so they are always loaded from the primary: a replica read could
+    // cache a row from before an evicting commit. getEmployeeById runs no query before this, so the
+    // transaction's connection is first used here.
+    private EmployeeResponseDTO loadEmployeeResponse(Long id) {
+        return ReadYourWritesContext.callOnPrimary(() -> {
+            routeToEmployeeShard(id);
+            Employee employee = employeeRepository.findById(id)
+                    .orElseThrow(() -> new ResourceNotFoundException("Employee not found with ID: " + id));
+            return mapToEmployeeResponseDTO(employee);
+        });
+    }
+
+    // Next keyset batch for the streaming endpoint: employees with ID greater than afterId, in ID order
+    @Transactional(readOnly = true)
+    public List<EmployeeResponseDTO> getEmployeesAfter(Long afterId, int batchSize) {
+        if (shardRouter.isSharded()) {
+            List<List<EmployeeResponseDTO>> batches = shardRouter.onAllShards(true, shard ->
+                    mapWithoutManagerNames(employeeRepository.findBatchAfterId(afterId, Limit.of(batchSize))));
+            return withManagerNames(ShardRouter.mergeSorted(batches, BY_ID, 0, batchSize));
+        }
+        return DtoMappingEvent.mapAll("EmployeeResponseDTO",
+                employeeRepository.findBatchAfterId(afterId, Limit.of(batchSize)), this::mapToEmployeeResponseDTO);
     }
 
     @Transactional
     public EmployeeResponseDTO updateEmployee(Long id, EmployeeUpdateRequestDTO requestDTO) {
+        int shard = routeToEmployeeShard(id);
         Employee existingEmployee = employeeRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Employee not found with ID: " + id));
+        Department previousDepartment = existingEmployee.getDepartment();
+        BigDecimal previousSalary = existingEmployee.getSalary();
+        SalaryBandService.SalaryEntry previousSalaryEntry = SalaryBandService.SalaryEntry.of(existingEmployee);
 
         if (requestDTO.getName() != null) {
+            if (!requestDTO.getName().equals(existingEmployee.getName())) {
+                // Direct reports embed this employee's name as their reporting manager. The directory is
+                // updated first, so a report reloaded right after the eviction gets the new name
+                employeeNameDirectory.putAfterCommit(id, requestDTO.getName());
+                employeeResponseCache.evictByReportingManagerAfterCommit(id);
+            }
             existingEmployee.setName(requestDTO.getName());
         }
         if (requestDTO.getDateOfBirth() != null) {
@@ -133,8 +234,7 @@ public class EmployeeService {
             if (id.equals(requestDTO.getReportingManagerId())) {
                 throw new ValidationException("An employee cannot be their own reporting manager.");
             }
-            Employee newReportingManager = employeeRepository.findById(requestDTO.getReportingManagerId())
-                    .orElseThrow(() -> new ResourceNotFoundException("New reporting manager not found with ID: " + requestDTO.getReportingManagerId()));
+            Employee newReportingManager = findReportingManager(requestDTO.getReportingManagerId(), "New reporting manager not found with ID: ");
             existingEmployee.setReportingManager(newReportingManager);
         } else if (requestDTO.getReportingManagerId() == null && existingEmployee.getReportingManager() != null) {
             // If reportingManagerId is explicitly set to null, remove current reporting manager
@@ -142,17 +242,27 @@ public class EmployeeService {
         }
 
         Employee updatedEmployee = employeeRepository.save(existingEmployee);
-        return mapToEmployeeResponseDTO(updatedEmployee);
+        updateDepartmentTotals(previousDepartment, previousSalary, updatedEmployee.getDepartment(), updatedEmployee.getSalary());
+        employeeHistoryService.recordChange(updatedEmployee);
+        salaryBandService.recordChangeAfterCommit(previousSalaryEntry, updatedEmployee);
+        EmployeeResponseDTO response = mapToEmployeeResponseDTO(updatedEmployee);
+        moveToDepartmentShard(updatedEmployee, shard);
+        employeeResponseCache.evictAfterCommit(id);
+        return response;
     }
 
     @Transactional
     public EmployeeResponseDTO updateEmployeeDepartment(Long employeeId, EmployeeUpdateDepartmentRequestDTO requestDTO) {
+        int shard = routeToEmployeeShard(employeeId);
         Employee employee = employeeRepository.findById(employeeId)
                 .orElseThrow(() -> new ResourceNotFoundException("Employee not found with ID: " + employeeId));
 
         Department newDepartment = departmentRepository.findById(requestDTO.getNewDepartmentId())
                 .orElseThrow(() -> new ResourceNotFoundException("New department not found with ID: " + requestDTO.getNewDepartmentId()));
 
+        Department previousDepartment = employee.getDepartment();
+        SalaryBandService.SalaryEntry previousSalaryEntry = SalaryBandService.SalaryEntry.of(employee);
+
         // Remove from old department's employee set if exists
         if (employee.getDepartment() != null) {
             employee.getDepartment().getEmployees().remove(employee);
@@ -162,12 +272,236 @@ public class EmployeeService {
         newDepartment.getEmployees().add(employee); // Add to new department's employee set
 
         Employee updatedEmployee = employeeRepository.save(employee);
-        return mapToEmployeeResponseDTO(updatedEmployee);
+        updateDepartmentTotals(previousDepartment, updatedEmployee.getSalary(), newDepartment, updatedEmployee.getSalary());
+        employeeHistoryService.recordChange(updatedEmployee);
+        salaryBandService.recordChangeAfterCommit(previousSalaryEntry, updatedEmployee);
+        EmployeeResponseDTO response = mapToEmployeeResponseDTO(updatedEmployee);
+        moveToDepartmentShard(updatedEmployee, shard);
+        employeeResponseCache.evictAfterCommit(employeeId);
+        return response;
     }
 
+    @Transactional
+    public BulkEmployeeUpdateResponseDTO bulkUpdateEmployees(BulkEmployeeUpdateRequestDTO requestDTO) {
+        BulkEmployeeFilterDTO filter = requestDTO.getFilter();
+        BulkEmployeeOperationDTO operation = requestDTO.getOperation();
+        if (shardRouter.isSharded()) {
+            throw new ValidationException("Bulk updates are not supported in sharded mode.");
+        }
+        validateBulkUpdate(filter, operation);
+
+        Department newDepartment = null;
+        if (operation.getNewDepartmentId() != null) {
+            newDepartment = departmentRepository.findById(operation.getNewDepartmentId())
+                    .orElseThrow(() -> new ResourceNotFoundException("New department not found with ID: " + operation.getNewDepartmentId()));
+        }
+        Employee newReportingManager = null;
+        if (operation.getNewReportingManagerId() != null) {
+            newReportingManager = employeeRepository.findById(operation.getNewReportingManagerId())
+                    .orElseThrow(() -> new ResourceNotFoundException("New reporting manager not found with ID: " + operation.getNewReportingManagerId()));
+        }
+
+        long matchedEmployees = employeeBulkRepository.countMatching(filter, operation);
+        // Collected before the update, since a department transfer changes which rows the filter matches
+        Set<Long> affectedDepartmentIds = new TreeSet<>(employeeBulkRepository.findDepartmentIdsMatching(filter, operation));
+        if (newDepartment != null && matchedEmployees > 0) {
+            affectedDepartmentIds.add(newDepartment.getId());
+        }
+        BigDecimal[] salaryTotals = employeeBulkRepository.sumSalaryMatching(filter, operation);
+
+        long invalidResults = employeeBulkRepository.countInvalidResults(filter, operation);
+        if (invalidResults > 0) {
+            throw new ValidationException("Bulk update would leave " + invalidResults + " employees with a non-positive salary or a negative bonus percentage.");
+        }
+
+        long updatedEmployees = 0;
+        if (!requestDTO.isDryRun()) {
+            RequestDeadline.checkpoint("bulk update");
+            // Matched employees' versions are closed before the update (while the filter still matches
+            // them) and reopened from the updated rows afterwards
+            LocalDateTime changedAt = LocalDateTime.now();
+            employeeBulkRepository.closeHistoryMatching(filter, operation, changedAt);
+            updatedEmployees = employeeBulkRepository.bulkUpdate(filter, operation, newDepartment, newReportingManager);
+            employeeHistoryService.openMissingVersions(changedAt);
+            // Recomputed in ascending ID order, matching updateDepartmentTotals
+            affectedDepartmentIds.forEach(departmentRepository::recomputeTotals);
+            employeeResponseCache.evictAllAfterCommit();
+            salaryBandService.rebuildAfterCommit();
+        }
+
+        return new BulkEmployeeUpdateResponseDTO(
+                requestDTO.isDryRun(),
+                matchedEmployees,
+                updatedEmployees,
+                new ArrayList<>(affectedDepartmentIds),
+                salaryTotals[0],
+                salaryTotals[1]
+        );
+    }
+
+    private void validateBulkUpdate(BulkEmployeeFilterDTO filter, BulkEmployeeOperationDTO operation) {
+        if (filter.getEmployeeIds() != null && filter.getEmployeeIds().isEmpty()) {
+            throw new ValidationException("employeeIds must not be empty when provided.");
+        }
+        if (operation.getSalaryChangePercent() != null && operation.getSalaryChangeAmount() != null) {
+            throw new ValidationException("Specify either salaryChangePercent or salaryChangeAmount, not both.");
+        }
+        if (operation.getSalaryChangePercent() != null && operation.getSalaryChangePercent().compareTo(BigDecimal.valueOf(-100)) <= 0) {
+            throw new ValidationException("salaryChangePercent must be greater than -100.");
+        }
+        if (operation.getSalaryChangePercent() == null && operation.getSalaryChangeAmount() == null
+                && operation.getYearlyBonusPercentageChange() == null
+                && operation.getNewDepartmentId() == null && operation.getNewReportingManagerId() == null) {
+            throw new ValidationException("Bulk update operation must change at least one field.");
+        }
+    }
+
+    // --- Sharding ---
+    // Routes the current transaction to the shard holding the employee (no-op when not sharded)
+    private int routeToEmployeeShard(Long employeeId) {
+        if (!shardRouter.isSharded()) {
+            return 0;
+        }
+        int shard = shardRouter.findEmployeeShard(employeeId)
+                .orElseThrow(() -> new ResourceNotFoundException("Employee not found with ID: " + employeeId));
+        shardRouter.routeTo(shard);
+        return shard;
+    }
+
+    // A reporting manager may live on another shard, so it is referenced by ID rather than loaded
+    private Employee findReportingManager(Long managerId, String notFoundMessage) {
+        if (!shardRouter.isSharded()) {
+            return employeeRepository.findById(managerId)
+                    .orElseThrow(() -> new ResourceNotFoundException(notFoundMessage + managerId));
+        }
+        if (shardRouter.findEmployeeShard(managerId).isEmpty()) {
+            throw new ResourceNotFoundException(notFoundMessage + managerId);
+        }
+        return employeeRepository.getReferenceById(managerId);
+    }
+
+    // After a department change, an employee whose new department lives on another shard moves there
+    private void moveToDepartmentShard(Employee employee, int currentShard) {
+        Long departmentId = employee.getDepartment() != null ? employee.getDepartment().getId() : null;
+        if (shardRouter.isSharded() && shardRouter.shardFor(departmentId) != currentShard) {
+            employeeRepository.flush();
+            shardMaintenanceService.moveEmployee(employee.getId(), currentShard);
+        }
+    }
+
+    // Scatter-gather: every shard returns its first (offset + size) employees in ID order, and the
+    // merged stream is cut to the requested page. Deep pages cost O(shards x (offset + size)).
+    private PagedResponse<EmployeeResponseDTO> getAllEmployeesSharded(int page, int size) {
+        PagedResponse<EmployeeResponseDTO> employees = scatterPage(page, size, this::mapWithoutManagerName, BY_ID);
+        withManagerNames(employees.getContent());
+        return employees;
+    }
+
+    private <T> PagedResponse<T> scatterPage(int page, int size, Function<Employee, T> mapper, Comparator<T> order) {
+        Pageable pageable = PageRequest.of(page, size, Sort.by("id"));
+        long window = pageable.getOffset() + size;
+        if (window > Integer.MAX_VALUE) {
+            throw new ValidationException("Page is too deep for a sharded listing.");
+        }
+        List<Page<T>> shardPages = shardRouter.onAllShards(true, shard ->
+                employeeRepository.findAll(PageRequest.of(0, (int) window, Sort.by("id"))).map(mapper));
+
+        List<List<T>> contents = new ArrayList<>();
+        long totalElements = 0;
+        for (Page<T> shardPage : shardPages) {
+            contents.add(shardPage.getContent());
+            totalElements += shardPage.getTotalElements();
+        }
+        int totalPages = (int) Math.ceil((double) totalElements / size);
+        return new PagedResponse<>(
+                ShardRouter.mergeSorted(contents, order, pageable.getOffset(), size),
+                page,
+                size,
+                totalElements,
+                totalPages,
+                page + 1 >= totalPages,
+                page == 0
+        );
+    }
+
+    private List<EmployeeResponseDTO> mapWithoutManagerNames(List<Employee> employees) {
+        return DtoMappingEvent.mapAll("EmployeeResponseDTO", employees, this::mapWithoutManagerName);
+    }
+
+    // Department is replicated on every shard; the manager's name is filled in by withManagerNames
+    private EmployeeResponseDTO mapWithoutManagerName(Employee employee) {
+        return mapToEmployeeResponseDTO(employee, reportingManager -> null);
+    }
+
+    // Names come from the directory; only IDs it does not know yet are looked up across the shards
+    private List<EmployeeResponseDTO> withManagerNames(List<EmployeeResponseDTO> employees) {
+        Set<Long> unknownIds = new HashSet<>();
+        for (EmployeeResponseDTO dto : employees) {
+            if (dto.getReportingManager() != null) {
+                String name = employeeNameDirectory.findName(dto.getReportingManager().getId());
+                dto.getReportingManager().setName(name);
+                if (name == null) {
+                    unknownIds.add(dto.getReportingManager().getId());
+                }
+            }
+        }
+        if (!unknownIds.isEmpty()) {
+            Map<Long, String> names = shardRouter.findEmployeeNames(unknownIds);
+            employees.stream()
+                    .filter(dto -> dto.getReportingManager() != null && dto.getReportingManager().getName() == null)
+                    .forEach(dto -> dto.getReportingManager().setName(names.get(dto.getReportingManager().getId())));
+        }
+        return employees;
+    }
+
+    // lookup=true listings are served from the name directory on every topology: no query, no entities
+    private PagedResponse<EmployeeLookupDTO> getEmployeeLookups(int page, int size) {
+        EmployeeNameDirectory.NamePage names = employeeNameDirectory.findPage(PageRequest.of(page, size).getOffset(), size);
+        int totalPages = (int) Math.ceil((double) names.total() / size);
+        return new PagedResponse<>(
+                names.toLookupDTOs(),
+                page,
+                size,
+                names.total(),
+                totalPages,
+                page + 1 >= totalPages,
+                page == 0
+        );
+    }
+
+    // Keeps Department.headcount/totalSalary in step with an employee joining, leaving or changing salary.
+    // Departments are always adjusted in ascending ID order so two opposite moves cannot deadlock.
+    private void updateDepartmentTotals(Department oldDepartment, BigDecimal oldSalary, Department newDepartment, BigDecimal newSalary) {
+        Long oldDepartmentId = oldDepartment != null ? oldDepartment.getId() : null;
+        Long newDepartmentId = newDepartment != null ? newDepartment.getId() : null;
+
+        if (Objects.equals(oldDepartmentId, newDepartmentId)) {
+            if (newDepartmentId != null && oldSalary.compareTo(newSalary) != 0) {
+                departmentRepository.adjustTotals(newDepartmentId, 0, newSalary.subtract(oldSalary));
+            }
+            return;
+        }
+
+        boolean oldFirst = newDepartmentId == null || (oldDepartmentId != null && oldDepartmentId < newDepartmentId);
+        if (oldFirst) {
+            departmentRepository.adjustTotals(oldDepartmentId, -1, oldSalary.negate());
+            if (newDepartmentId != null) {
+                departmentRepository.adjustTotals(newDepartmentId, 1, newSalary);
+            }
+        } else {
+            departmentRepository.adjustTotals(newDepartmentId, 1, newSalary);
+            if (oldDepartmentId != null) {
+                departmentRepository.adjustTotals(oldDepartmentId, -1, oldSalary.negate());
+            }
+        }
+    }
 
     // --- Mappers ---
     private EmployeeResponseDTO mapToEmployeeResponseDTO(Employee employee) {
+        return mapToEmployeeResponseDTO(employee, employeeNameDirectory::nameOf);
+    }
+
+    private EmployeeResponseDTO mapToEmployeeResponseDTO(Employee employee, Function<Employee, String> reportingManagerName) {
         EmployeeResponseDTO dto = new EmployeeResponseDTO();
         dto.setId(employee.getId());
         dto.setName(employee.getName());
@@ -182,12 +516,8 @@ public class EmployeeService {
             dto.setDepartment(new DepartmentLookupDTO(employee.getDepartment().getId(), employee.getDepartment().getName()));
         }
         if (employee.getReportingManager() != null) {
-            dto.setReportingManager(new EmployeeLookupDTO(employee.getReportingManager().getId(), employee.getReportingManager().getName()));
+            dto.setReportingManager(new EmployeeLookupDTO(employee.getReportingManager().getId(), reportingManagerName.apply(employee.getReportingManager())));
         }
         return dto;
     }
-
-    private EmployeeLookupDTO mapToEmployeeLookupDTO(Employee employee) {
-        return new EmployeeLookupDTO(employee.getId(), employee.getName());
-    }
 }
\ No newline at end of file
@@ -0,0 +1,57 @@
+package com.example.employeemanagementsystem.service;
+
+import com.example.employeemanagementsystem.config.RequestDeadline;
+import com.example.employeemanagementsystem.dto.EmployeeResponseDTO;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.List;
+import java.util.function.Function;
+
+// Backpressured employee stream. Batches are fetched lazily by keyset (ID order) only when the
+// subscriber has demand, so a slow client holds at most one batch in memory. All blocking JPA
+// work runs on a dedicated bounded scheduler: however many clients connect, the thread count and
+// task queue stay capped.
+@Service
+public class EmployeeStreamService {
+
+    private final EmployeeService employeeService;
+    private final Scheduler streamScheduler;
+
+    public EmployeeStreamService(EmployeeService employeeService,
+                                 @Value("${app.stream.threads:8}") int threads,
+                                 @Value("${app.stream.max-queued-tasks:1000}") int maxQueuedTasks) {
+        this.employeeService = employeeService;
+        this.streamScheduler = Schedulers.newBoundedElastic(threads, maxQueuedTasks, "employee-stream");
+    }
+
+    // Batches run on the stream scheduler under the requesting thread's deadline, if any: each
+    // batch query is bounded by it, and the stream ends with DeadlineExceededException once it passes
+    public Flux<EmployeeResponseDTO> streamEmployees(int batchSize) {
+        RequestDeadline deadline = RequestDeadline.current();
+        return Flux.<List<EmployeeResponseDTO>, Long>generate(() -> 0L, (afterId, sink) -> {
+                    if (deadline != null) {
+                        deadline.check("employee stream batch after ID " + afterId);
+                    }
+                    List<EmployeeResponseDTO> batch = RequestDeadline.callWithin(deadline,
+                            () -> employeeService.getEmployeesAfter(afterId, batchSize));
+                    if (batch.isEmpty()) {
+                        sink.complete();
+                        return afterId;
+                    }
+                    sink.next(batch);
+                    return batch.get(batch.size() - 1).getId();
+                })
+                .subscribeOn(streamScheduler)
+                .flatMapIterable(Function.identity(), 1); // Prefetch one batch at a time
+    }
+
+    @PreDestroy
+    void shutdown() {
+        streamScheduler.dispose();
+    }
+}
@@ -0,0 +1,134 @@
+package com.example.employeemanagementsystem.service;
+
+import com.example.employeemanagementsystem.config.ShardRouter;
+import com.example.employeemanagementsystem.exception.ValidationException;
+import com.example.employeemanagementsystem.graphql.DepartmentNode;
+import com.example.employeemanagementsystem.graphql.EmployeeNode;
+import com.example.employeemanagementsystem.repository.DepartmentNodeRepository;
+import com.example.employeemanagementsystem.repository.EmployeeNodeRepository;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+// Loads for the GraphQL API. Every method is one read-only IN query (one per shard in sharded
+// mode) regardless of how many keys it is given, so the SQL cost of a GraphQL query grows with
+// its depth rather than with the number of nodes it returns.
+@Service
+public class OrgGraphService {
+
+    public static final int MAX_PAGE_SIZE = 100;
+
+    private static final Comparator<EmployeeNode> BY_ID = Comparator.comparing(EmployeeNode::id);
+
+    private final EmployeeNodeRepository employeeNodeRepository;
+    private final DepartmentNodeRepository departmentNodeRepository;
+    private final ShardRouter shardRouter;
+
+    public OrgGraphService(EmployeeNodeRepository employeeNodeRepository, DepartmentNodeRepository departmentNodeRepository,
+                           ShardRouter shardRouter) {
+        this.employeeNodeRepository = employeeNodeRepository;
+        this.departmentNodeRepository = departmentNodeRepository;
+        this.shardRouter = shardRouter;
+    }
+
+    public List<DepartmentNode> getDepartments(int page, int size) {
+        validatePage(page, size);
+        List<DepartmentNode> departments = shardRouter.inShard(0, true,
+                () -> departmentNodeRepository.findPage(PageRequest.of(page, size)));
+        if (!shardRouter.isSharded()) {
+            return departments;
+        }
+        // Shard 0 only holds replicas; totals are authoritative on each department's owning shard
+        Map<Long, DepartmentNode> owned = findDepartmentsByIds(departments.stream().map(DepartmentNode::id).toList());
+        return departments.stream().map(department -> owned.get(department.id())).filter(Objects::nonNull).toList();
+    }
+
+    public List<EmployeeNode> getEmployees(int page, int size) {
+        validatePage(page, size);
+        if (!shardRouter.isSharded()) {
+            return shardRouter.inShard(0, true, () -> employeeNodeRepository.findPage(PageRequest.of(page, size)));
+        }
+        // Each shard's first (page + 1) * size rows by ID contain everything the merged page needs
+        List<List<EmployeeNode>> perShard = shardRouter.onAllShards(true,
+                shard -> employeeNodeRepository.findPage(PageRequest.of(0, (page + 1) * size)));
+        return ShardRouter.mergeSorted(perShard, BY_ID, (long) page * size, size);
+    }
+
+    public Map<Long, DepartmentNode> findDepartmentsByIds(Collection<Long> departmentIds) {
+        if (departmentIds.isEmpty()) {
+            return Map.of();
+        }
+        return onDepartmentShards(departmentIds, departmentNodeRepository::findByIds).stream()
+                .collect(Collectors.toMap(DepartmentNode::id, Function.identity()));
+    }
+
+    public Map<Long, EmployeeNode> findEmployeesByIds(Collection<Long> employeeIds) {
+        if (employeeIds.isEmpty()) {
+            return Map.of();
+        }
+        // An employee's shard follows its department, which is not known from the ID alone
+        return onEveryShard(() -> employeeNodeRepository.findByIds(employeeIds)).stream()
+                .collect(Collectors.toMap(EmployeeNode::id, Function.identity()));
+    }
+
+    // Employees grouped by department, in ID order within each department
+    public Map<Long, List<EmployeeNode>> findEmployeesByDepartmentIds(Collection<Long> departmentIds) {
+        if (departmentIds.isEmpty()) {
+            return Map.of();
+        }
+        return groupSorted(onDepartmentShards(departmentIds, employeeNodeRepository::findByDepartmentIds),
+                EmployeeNode::departmentId);
+    }
+
+    // Direct reports grouped by manager, in ID order within each manager
+    public Map<Long, List<EmployeeNode>> findDirectReports(Collection<Long> managerIds) {
+        if (managerIds.isEmpty()) {
+            return Map.of();
+        }
+        return groupSorted(onEveryShard(() -> employeeNodeRepository.findByReportingManagerIds(managerIds)),
+                EmployeeNode::reportingManagerId);
+    }
+
+    // Loads by department on each department's owning shard; shards owning none of them run no query
+    private <T> List<T> onDepartmentShards(Collection<Long> departmentIds, Function<List<Long>, List<T>> load) {
+        return concat(shardRouter.onAllShards(true, shard -> {
+            List<Long> owned = departmentIds.stream().filter(id -> shardRouter.shardFor(id) == shard).toList();
+            return owned.isEmpty() ? List.<T>of() : load.apply(owned);
+        }));
+    }
+
+    private <T> List<T> onEveryShard(Supplier<List<T>> load) {
+        return concat(shardRouter.onAllShards(true, shard -> load.get()));
+    }
+
+    private static <T> List<T> concat(List<List<T>> perShard) {
+        List<T> rows = new ArrayList<>();
+        perShard.forEach(rows::addAll);
+        return rows;
+    }
+
+    private static Map<Long, List<EmployeeNode>> groupSorted(List<EmployeeNode> employees, Function<EmployeeNode, Long> key) {
+        return employees.stream()
+                .sorted(BY_ID)
+                .collect(Collectors.groupingBy(key, LinkedHashMap::new, Collectors.toList()));
+    }
+
+    private static void validatePage(int page, int size) {
+        if (page < 0) {
+            throw new ValidationException("page must not be negative.");
+        }
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new ValidationException("size must be between 1 and " + MAX_PAGE_SIZE + ".");
+        }
+    }
+}
@@ -0,0 +1,295 @@
+package com.example.employeemanagementsystem.service;
+
+import com.example.employeemanagementsystem.config.ShardRouter;
+import com.example.employeemanagementsystem.dto.PagedResponse;
+import com.example.employeemanagementsystem.dto.PayrollResultDTO;
+import com.example.employeemanagementsystem.dto.PayrollRunProgressDTO;
+import com.example.employeemanagementsystem.dto.PayrollRunResponseDTO;
+import com.example.employeemanagementsystem.entity.PayrollResult;
+import com.example.employeemanagementsystem.entity.PayrollRun;
+import com.example.employeemanagementsystem.entity.PayrollRunStatus;
+import com.example.employeemanagementsystem.exception.ResourceNotFoundException;
+import com.example.employeemanagementsystem.exception.ValidationException;
+import com.example.employeemanagementsystem.repository.EmployeeRepository;
+import com.example.employeemanagementsystem.repository.PayrollJdbcRepository;
+import com.example.employeemanagementsystem.repository.PayrollResultRepository;
+import com.example.employeemanagementsystem.repository.PayrollRunChunkRepository;
+import com.example.employeemanagementsystem.repository.PayrollRunRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+// Computes annual bonus payouts for every employee. A run splits the employee ID range into
+// fixed chunks; workers pull chunk indexes from a shared counter and write each chunk's results
+// together with a checkpoint row in one transaction, so a run interrupted by a crash resumes
+// from the chunks that have not been committed yet.
+@Service
+public class PayrollRunService {
+
+    private static final Logger log = LoggerFactory.getLogger(PayrollRunService.class);
+
+    private final PayrollRunRepository payrollRunRepository;
+    private final PayrollRunChunkRepository payrollRunChunkRepository;
+    private final PayrollResultRepository payrollResultRepository;
+    private final PayrollJdbcRepository payrollJdbcRepository;
+    private final EmployeeRepository employeeRepository;
+    private final ShardRouter shardRouter;
+    private final TransactionTemplate transactionTemplate;
+    private final Executor payrollExecutor;
+    private final int workers;
+    private final int chunkSize;
+
+    public PayrollRunService(PayrollRunRepository payrollRunRepository,
+                             PayrollRunChunkRepository payrollRunChunkRepository,
+                             PayrollResultRepository payrollResultRepository,
+                             PayrollJdbcRepository payrollJdbcRepository,
+                             EmployeeRepository employeeRepository,
+                             ShardRouter shardRouter,
+                             PlatformTransactionManager transactionManager,
+                             @Qualifier("payrollExecutor") Executor payrollExecutor,
+                             @Value("${app.payroll.workers:8}") int workers,
+                             @Value("${app.payroll.chunk-size:5000}") int chunkSize) {
+        this.payrollRunRepository = payrollRunRepository;
+        this.payrollRunChunkRepository = payrollRunChunkRepository;
+        this.payrollResultRepository = payrollResultRepository;
+        this.payrollJdbcRepository = payrollJdbcRepository;
+        this.employeeRepository = employeeRepository;
+        this.shardRouter = shardRouter;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.payrollExecutor = payrollExecutor;
+        this.workers = workers;
+        this.chunkSize = chunkSize;
+    }
+
+    public PayrollRunResponseDTO startPayrollRun() {
+        rejectWhenSharded();
+        PayrollRun run = oneRunningAtATime(() -> transactionTemplate.execute(status -> {
+            if (payrollRunRepository.existsByStatus(PayrollRunStatus.RUNNING)) {
+                throw new ValidationException("A payroll run is already in progress.");
+            }
+            EmployeeRepository.EmployeeIdRange idRange = employeeRepository.findIdRange();
+
+            PayrollRun newRun = new PayrollRun();
+            newRun.setCreatedAt(LocalDateTime.now());
+            newRun.setChunkSize(chunkSize);
+            newRun.setTotalEmployees(idRange.getTotal());
+            if (idRange.getMinId() == null) {
+                newRun.setStatus(PayrollRunStatus.COMPLETED);
+                newRun.setCompletedAt(LocalDateTime.now());
+                newRun.setTotalChunks(0);
+            } else {
+                newRun.setStatus(PayrollRunStatus.RUNNING);
+                newRun.setMinEmployeeId(idRange.getMinId());
+                newRun.setMaxEmployeeId(idRange.getMaxId());
+                long idSpan = idRange.getMaxId() - idRange.getMinId() + 1;
+                newRun.setTotalChunks(Math.toIntExact((idSpan + chunkSize - 1) / chunkSize));
+            }
+            return payrollRunRepository.save(newRun);
+        }));
+
+        if (run.getStatus() == PayrollRunStatus.RUNNING) {
+            launch(run);
+        }
+        return mapToPayrollRunResponseDTO(run);
+    }
+
+    public PayrollRunResponseDTO resumePayrollRun(Long id) {
+        rejectWhenSharded();
+        PayrollRun run = oneRunningAtATime(() -> transactionTemplate.execute(status -> {
+            PayrollRun existingRun = payrollRunRepository.findById(id)
+                    .orElseThrow(() -> new ResourceNotFoundException("Payroll run not found with ID: " + id));
+            if (existingRun.getStatus() != PayrollRunStatus.FAILED) {
+                throw new ValidationException("Only failed payroll runs can be resumed. Run " + id + " is " + existingRun.getStatus() + ".");
+            }
+            existingRun.setStatus(PayrollRunStatus.RUNNING);
+            existingRun.setFailureMessage(null);
+            return payrollRunRepository.save(existingRun);
+        }));
+        launch(run);
+        return mapToPayrollRunResponseDTO(run);
+    }
+
+    // Runs left RUNNING by a previous process were interrupted; pick them up from their last checkpoint
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeInterruptedRuns() {
+        if (shardRouter.isSharded()) {
+            log.warn("Payroll runs are not supported in sharded mode; interrupted runs are left as they are");
+            return;
+        }
+        for (PayrollRun run : payrollRunRepository.findByStatus(PayrollRunStatus.RUNNING)) {
+            log.info("Resuming interrupted payroll run {}", run.getId());
+            launch(run);
+        }
+    }
+
+    // The existsByStatus check gives the usual answer; concurrent starts that both pass it are
+    // stopped by the unique running_guard key (see PayrollRun)
+    private static PayrollRun oneRunningAtATime(Supplier<PayrollRun> transition) {
+        try {
+            return transition.get();
+        } catch (DataIntegrityViolationException e) {
+            throw new ValidationException("A payroll run is already in progress.");
+        }
+    }
+
+    // Runs read and write only shard 0's employees, so a sharded run would silently pay a fraction of them
+    private void rejectWhenSharded() {
+        if (shardRouter.isSharded()) {
+            throw new ValidationException("Payroll runs are not supported in sharded mode.");
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public PayrollRunResponseDTO getPayrollRun(Long id) {
+        return mapToPayrollRunResponseDTO(findRun(id));
+    }
+
+    @Transactional(readOnly = true)
+    public PayrollRunProgressDTO getPayrollRunProgress(Long id) {
+        PayrollRun run = findRun(id);
+        PayrollRunChunkRepository.ChunkProgress progress = payrollRunChunkRepository.summarizeProgress(id);
+        double percentComplete = run.getTotalChunks() == 0
+                ? 100.0
+                : progress.getCompletedChunks() * 100.0 / run.getTotalChunks();
+        return new PayrollRunProgressDTO(
+                run.getId(),
+                run.getStatus(),
+                run.getTotalChunks(),
+                progress.getCompletedChunks(),
+                run.getTotalEmployees(),
+                progress.getProcessedEmployees(),
+                percentComplete
+        );
+    }
+
+    @Transactional(readOnly = true)
+    public PagedResponse<PayrollResultDTO> getPayrollResults(Long id, int page, int size) {
+        findRun(id);
+        Pageable pageable = PageRequest.of(page, size);
+        Page<PayrollResult> resultPage = payrollResultRepository.findByRunIdOrderByEmployeeId(id, pageable);
+
+        List<PayrollResultDTO> content = resultPage.getContent().stream()
+                .map(result -> new PayrollResultDTO(result.getEmployeeId(), result.getSalary(), result.getBonusPercentage(), result.getBonusAmount()))
+                .collect(Collectors.toList());
+
+        return new PagedResponse<>(
+                content,
+                resultPage.getNumber(),
+                resultPage.getSize(),
+                resultPage.getTotalElements(),
+                resultPage.getTotalPages(),
+                resultPage.isLast(),
+                resultPage.isFirst()
+        );
+    }
+
+    // Bonus = salary * percentage / 100, rounded half-even to cents. The percentage is converted
+    // through its decimal string form, so 7.5 is exactly 7.5 rather than its binary approximation.
+    static BigDecimal calculateBonus(BigDecimal salary, double bonusPercentage) {
+        return salary.multiply(BigDecimal.valueOf(bonusPercentage))
+                .movePointLeft(2)
+                .setScale(2, RoundingMode.HALF_EVEN);
+    }
+
+    private void launch(PayrollRun run) {
+        BitSet completedChunks = new BitSet(run.getTotalChunks());
+        payrollRunChunkRepository.findCompletedChunkIndexes(run.getId()).forEach(completedChunks::set);
+
+        AtomicInteger nextChunk = new AtomicInteger();
+        AtomicBoolean failed = new AtomicBoolean();
+        CompletableFuture<?>[] workerFutures = new CompletableFuture<?>[workers];
+        for (int i = 0; i < workers; i++) {
+            workerFutures[i] = CompletableFuture.runAsync(() -> {
+                try {
+                    int chunkIndex;
+                    while (!failed.get() && (chunkIndex = nextChunk.getAndIncrement()) < run.getTotalChunks()) {
+                        if (!completedChunks.get(chunkIndex)) {
+                            processChunk(run, chunkIndex);
+                        }
+                    }
+                } catch (RuntimeException ex) {
+                    failed.set(true); // Stop the other workers; committed chunks are kept for resume
+                    throw ex;
+                }
+            }, payrollExecutor);
+        }
+        CompletableFuture.allOf(workerFutures).whenComplete((ignored, error) -> finish(run.getId(), error));
+    }
+
+    private void processChunk(PayrollRun run, int chunkIndex) {
+        long fromId = run.getMinEmployeeId() + (long) chunkIndex * run.getChunkSize();
+        long toId = Math.min(fromId + run.getChunkSize(), run.getMaxEmployeeId() + 1);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            List<PayrollResult> results = payrollJdbcRepository.findPayrollInputs(run.getId(), fromId, toId);
+            for (PayrollResult result : results) {
+                result.setBonusAmount(calculateBonus(result.getSalary(), result.getBonusPercentage()));
+            }
+            if (!results.isEmpty()) {
+                payrollJdbcRepository.insertResults(results);
+            }
+            payrollJdbcRepository.insertChunkCheckpoint(run.getId(), chunkIndex, results.size());
+        });
+    }
+
+    private void finish(Long runId, Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        if (cause != null) {
+            log.error("Payroll run {} failed", runId, cause);
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            PayrollRun run = payrollRunRepository.findById(runId)
+                    .orElseThrow(() -> new ResourceNotFoundException("Payroll run not found with ID: " + runId));
+            run.setStatus(cause == null ? PayrollRunStatus.COMPLETED : PayrollRunStatus.FAILED);
+            run.setCompletedAt(LocalDateTime.now());
+            if (cause != null) {
+                String message = String.valueOf(cause.getMessage());
+                run.setFailureMessage(message.length() > 1000 ? message.substring(0, 1000) : message);
+            }
+            payrollRunRepository.save(run);
+        });
+    }
+
+    private PayrollRun findRun(Long id) {
+        return payrollRunRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Payroll run not found with ID: " + id));
+    }
+
+    // --- Mappers ---
+    private PayrollRunResponseDTO mapToPayrollRunResponseDTO(PayrollRun run) {
+        return new PayrollRunResponseDTO(
+                run.getId(),
+                run.getStatus(),
+                run.getCreatedAt(),
+                run.getCompletedAt(),
+                run.getTotalEmployees(),
+                run.getChunkSize(),
+                run.getTotalChunks(),
+                run.getFailureMessage()
+        );
+    }
+}
@@ -0,0 +1,221 @@
+package com.example.employeemanagementsystem.service;
+
+import com.example.employeemanagementsystem.config.RequestDeadline;
+import com.example.employeemanagementsystem.config.ShardRouter;
+import com.example.employeemanagementsystem.dto.SalaryBandDTO;
+import com.example.employeemanagementsystem.dto.SalaryBandsResponseDTO;
+import com.example.employeemanagementsystem.entity.Department;
+import com.example.employeemanagementsystem.entity.Employee;
+import com.example.employeemanagementsystem.repository.DepartmentRepository;
+import com.example.employeemanagementsystem.repository.SalaryBandJdbcRepository;
+import com.example.employeemanagementsystem.stats.SalarySketch;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+// Salary percentiles per role and per department for GET /api/stats/salary-bands, served from
+// in-memory SalarySketches instead of scanning employees. The employee write paths apply their
+// changes after commit; set-based writes (bulk update, offboarding) trigger a rebuild instead.
+// The full rebuild also runs at startup and on a schedule, repairing any drift from changes
+// that raced with a rebuild. The response is computed once per change and then served as is.
+@Service
+public class SalaryBandService {
+
+    private static final Logger log = LoggerFactory.getLogger(SalaryBandService.class);
+
+    private static final String UNASSIGNED = "Unassigned";
+
+    private final SalaryBandJdbcRepository salaryBandJdbcRepository;
+    private final DepartmentRepository departmentRepository;
+    private final ShardRouter shardRouter;
+    private final double relativeAccuracy;
+    private final int maxBuckets;
+
+    private final Object lock = new Object();
+    private Sketches sketches; // Guarded by lock
+    private long generation; // Guarded by lock; bumped by every change
+    private volatile SalaryBandsResponseDTO snapshot;
+
+    public SalaryBandService(SalaryBandJdbcRepository salaryBandJdbcRepository, DepartmentRepository departmentRepository,
+                             ShardRouter shardRouter,
+                             @Value("${app.stats.salary-bands.relative-accuracy:0.01}") double relativeAccuracy,
+                             @Value("${app.stats.salary-bands.max-buckets:2048}") int maxBuckets) {
+        this.salaryBandJdbcRepository = salaryBandJdbcRepository;
+        this.departmentRepository = departmentRepository;
+        this.shardRouter = shardRouter;
+        this.relativeAccuracy = relativeAccuracy;
+        this.maxBuckets = maxBuckets;
+        this.sketches = new Sketches();
+    }
+
+    // The sketch-relevant state of an employee, captured before a change
+    public record SalaryEntry(String role, Long departmentId, BigDecimal salary) {
+        public static SalaryEntry of(Employee employee) {
+            return new SalaryEntry(employee.getRole(),
+                    employee.getDepartment() != null ? employee.getDepartment().getId() : null,
+                    employee.getSalary());
+        }
+    }
+
+    public void recordCreatedAfterCommit(Employee employee) {
+        SalaryEntry created = SalaryEntry.of(employee);
+        runAfterCommit(() -> update(sketches -> sketches.add(created)));
+    }
+
+    public void recordChangeAfterCommit(SalaryEntry before, Employee employee) {
+        SalaryEntry after = SalaryEntry.of(employee);
+        if (before.equals(after)) {
+            return;
+        }
+        runAfterCommit(() -> update(sketches -> {
+            sketches.remove(before);
+            sketches.add(after);
+        }));
+    }
+
+    // The rebuild serves every client, so it is not bounded by the calling request's deadline
+    public void rebuildAfterCommit() {
+        runAfterCommit(() -> RequestDeadline.callWithin(null, () -> {
+            rebuild();
+            return null;
+        }));
+    }
+
+    // Department names are embedded in the response
+    public void invalidateAfterCommit() {
+        runAfterCommit(() -> update(unchanged -> {
+        }));
+    }
+
+    // Each shard is scanned into its own sketches, which are then merged
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${app.stats.salary-bands.rebuild-interval-ms:300000}",
+            initialDelayString = "${app.stats.salary-bands.rebuild-interval-ms:300000}")
+    public void rebuild() {
+        List<Sketches> perShard = shardRouter.onAllShards(true, shard -> {
+            Sketches scanned = new Sketches();
+            salaryBandJdbcRepository.forEachSalary(resultSet -> scanned.add(new SalaryEntry(
+                    resultSet.getString(1), resultSet.getObject(2, Long.class), resultSet.getBigDecimal(3))));
+            return scanned;
+        });
+        Sketches rebuilt = new Sketches();
+        perShard.forEach(rebuilt::merge);
+        synchronized (lock) {
+            sketches = rebuilt;
+            generation++;
+            snapshot = null;
+        }
+        log.debug("Rebuilt salary band sketches for {} role(s) and {} department group(s).",
+                rebuilt.byRole.size(), rebuilt.byDepartment.size());
+    }
+
+    public SalaryBandsResponseDTO getSalaryBands() {
+        SalaryBandsResponseDTO current = snapshot;
+        return current != null ? current : computeSnapshot();
+    }
+
+    private SalaryBandsResponseDTO computeSnapshot() {
+        long startGeneration;
+        synchronized (lock) {
+            startGeneration = generation;
+        }
+        // Read outside the lock; if anything changed meanwhile the result is returned but not kept
+        Map<Long, String> departmentNames = shardRouter.inShard(0, true, () -> departmentRepository.findAll()).stream()
+                .collect(Collectors.toMap(Department::getId, Department::getName));
+        synchronized (lock) {
+            List<SalaryBandDTO> roles = new ArrayList<>();
+            sketches.byRole.forEach((role, sketch) -> {
+                if (sketch.getCount() > 0) {
+                    roles.add(toBand(role, null, sketch));
+                }
+            });
+            List<SalaryBandDTO> departments = new ArrayList<>();
+            sketches.byDepartment.forEach((departmentId, sketch) -> {
+                if (sketch.getCount() > 0) {
+                    String name = departmentId == null ? UNASSIGNED : departmentNames.getOrDefault(departmentId, UNASSIGNED);
+                    departments.add(toBand(name, departmentId, sketch));
+                }
+            });
+            departments.sort(Comparator.comparing(SalaryBandDTO::getDepartmentId, Comparator.nullsLast(Comparator.naturalOrder())));
+            SalaryBandsResponseDTO computed = new SalaryBandsResponseDTO(relativeAccuracy, roles, departments);
+            if (generation == startGeneration) {
+                snapshot = computed;
+            }
+            return computed;
+        }
+    }
+
+    private void update(Consumer<Sketches> change) {
+        synchronized (lock) {
+            change.accept(sketches);
+            generation++;
+            snapshot = null;
+        }
+    }
+
+    private static SalaryBandDTO toBand(String group, Long departmentId, SalarySketch sketch) {
+        return new SalaryBandDTO(group, departmentId, sketch.getCount(),
+                percentile(sketch, 0.10), percentile(sketch, 0.25), percentile(sketch, 0.50),
+                percentile(sketch, 0.75), percentile(sketch, 0.90));
+    }
+
+    private static BigDecimal percentile(SalarySketch sketch, double q) {
+        return BigDecimal.valueOf(sketch.quantile(q)).setScale(2, RoundingMode.HALF_EVEN);
+    }
+
+    private static void runAfterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private final class Sketches {
+        private final Map<String, SalarySketch> byRole = new TreeMap<>();
+        private final Map<Long, SalarySketch> byDepartment = new HashMap<>(); // null key: no department
+
+        private void add(SalaryEntry entry) {
+            double salary = entry.salary().doubleValue();
+            sketchFor(byRole, entry.role()).add(salary);
+            sketchFor(byDepartment, entry.departmentId()).add(salary);
+        }
+
+        private void remove(SalaryEntry entry) {
+            double salary = entry.salary().doubleValue();
+            sketchFor(byRole, entry.role()).remove(salary);
+            sketchFor(byDepartment, entry.departmentId()).remove(salary);
+        }
+
+        private void merge(Sketches other) {
+            other.byRole.forEach((role, sketch) -> sketchFor(byRole, role).merge(sketch));
+            other.byDepartment.forEach((departmentId, sketch) -> sketchFor(byDepartment, departmentId).merge(sketch));
+        }
+
+        private <K> SalarySketch sketchFor(Map<K, SalarySketch> sketchesByKey, K key) {
+            return sketchesByKey.computeIfAbsent(key, ignored -> new SalarySketch(relativeAccuracy, maxBuckets));
+        }
+    }
+}
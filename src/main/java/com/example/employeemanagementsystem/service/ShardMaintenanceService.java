@@ -0,0 +1,158 @@
+package com.example.employeemanagementsystem.service;
+
+import com.example.employeemanagementsystem.config.ShardRouter;
+import com.example.employeemanagementsystem.repository.DepartmentRepository;
+import com.example.employeemanagementsystem.repository.ShardJdbcRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// Cross-shard writes for the sharded mode. There is no distributed transaction: a move commits the
+// copy on the target shard first and deletes the original in the caller's transaction, undoing the
+// copy if that transaction rolls back; department reference changes are pushed to the other shards
+// once the owning write has committed, and re-synchronized from shard 0 at startup.
+@Service
+public class ShardMaintenanceService {
+
+    private static final Logger log = LoggerFactory.getLogger(ShardMaintenanceService.class);
+
+    private final ShardRouter shardRouter;
+    private final ShardJdbcRepository shardJdbcRepository;
+    private final DepartmentRepository departmentRepository;
+
+    public ShardMaintenanceService(ShardRouter shardRouter, ShardJdbcRepository shardJdbcRepository,
+                                   DepartmentRepository departmentRepository) {
+        this.shardRouter = shardRouter;
+        this.shardJdbcRepository = shardJdbcRepository;
+        this.departmentRepository = departmentRepository;
+    }
+
+    // Moves an employee (and their history) from `fromShard` to the shard of their current department.
+    // Runs inside a transaction routed to `fromShard`, after pending changes to the employee are flushed.
+    public void moveEmployee(Long employeeId, int fromShard) {
+        List<Map<String, Object>> employeeRows = shardJdbcRepository.findRows("employees", "id", employeeId);
+        if (employeeRows.isEmpty()) {
+            return;
+        }
+        Long departmentId = (Long) employeeRows.get(0).get("department_id");
+        int toShard = shardRouter.shardFor(departmentId);
+        if (toShard == fromShard) {
+            return;
+        }
+        List<Map<String, Object>> historyRows = shardJdbcRepository.findRows("employee_history", "employee_id", employeeId);
+
+        shardRouter.inShard(toShard, false, () -> {
+            shardJdbcRepository.insertRows("employees", employeeRows, Set.of());
+            shardJdbcRepository.insertRows("employee_history", historyRows, Set.of("id"));
+            recomputeTotals(departmentId);
+            return null;
+        });
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        shardRouter.inShard(toShard, false, () -> {
+                            deleteEmployeeRows(employeeId);
+                            recomputeTotals(departmentId);
+                            return null;
+                        });
+                    }
+                }
+            });
+        }
+
+        deleteEmployeeRows(employeeId);
+        recomputeTotals(departmentId);
+    }
+
+    // Pushes the department's reference columns (or its deletion) from `sourceShard` to every other
+    // shard once the current transaction commits
+    public void replicateDepartmentAfterCommit(Long departmentId, int sourceShard) {
+        if (!shardRouter.isSharded()) {
+            return;
+        }
+        Runnable replicate = () -> {
+            Map<String, Object> reference = shardRouter.inShard(sourceShard, true,
+                    () -> shardJdbcRepository.findDepartmentReference(departmentId));
+            for (int shard = 0; shard < shardRouter.shardCount(); shard++) {
+                if (shard == sourceShard) {
+                    continue;
+                }
+                try {
+                    shardRouter.inShard(shard, false, () -> reference != null
+                            ? upsert(reference)
+                            : shardJdbcRepository.deleteDepartment(departmentId));
+                } catch (RuntimeException e) {
+                    // Repaired by the startup re-synchronization at the latest
+                    log.error("Failed to replicate department {} to shard {}", departmentId, shard, e);
+                }
+            }
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    replicate.run();
+                }
+            });
+        } else {
+            replicate.run();
+        }
+    }
+
+    // Brings the shards in line at startup: department references are copied from shard 0, and
+    // employees seeded (or left) on the wrong shard are moved to their department's shard
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebalance() {
+        if (!shardRouter.isSharded()) {
+            return;
+        }
+        List<Map<String, Object>> references = shardRouter.inShard(0, true, shardJdbcRepository::findDepartmentReferences);
+        for (int shard = 1; shard < shardRouter.shardCount(); shard++) {
+            shardRouter.inShard(shard, false, () -> {
+                references.forEach(this::upsert);
+                return null;
+            });
+        }
+
+        int moved = 0;
+        for (int shard = 0; shard < shardRouter.shardCount(); shard++) {
+            int fromShard = shard;
+            List<Long> misplacedIds = shardRouter.inShard(fromShard, true,
+                    () -> shardJdbcRepository.findMisplacedEmployeeIds(fromShard, shardRouter.shardCount()));
+            for (Long employeeId : misplacedIds) {
+                shardRouter.inShard(fromShard, false, () -> {
+                    moveEmployee(employeeId, fromShard);
+                    return null;
+                });
+            }
+            moved += misplacedIds.size();
+        }
+        log.info("Shard rebalance: {} departments replicated, {} employees moved", references.size(), moved);
+    }
+
+    private int upsert(Map<String, Object> reference) {
+        shardJdbcRepository.upsertDepartmentReference(reference);
+        return 1;
+    }
+
+    private void deleteEmployeeRows(Long employeeId) {
+        shardJdbcRepository.deleteRows("employee_history", "employee_id", employeeId);
+        shardJdbcRepository.deleteRows("employees", "id", employeeId);
+    }
+
+    private void recomputeTotals(Long departmentId) {
+        if (departmentId != null) {
+            departmentRepository.recomputeTotals(departmentId);
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package com.example.employeemanagementsystem.service;
+
+import com.example.employeemanagementsystem.config.ShardRouter;
+import com.example.employeemanagementsystem.dto.UpcomingEventDTO;
+import com.example.employeemanagementsystem.entity.Employee;
+import com.example.employeemanagementsystem.exception.ValidationException;
+import com.example.employeemanagementsystem.repository.EmployeeRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.Month;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+// Birthdays and work anniversaries in the next N days, answered from the indexed
+// Employee.birthDayOfYear/joiningDayOfYear columns instead of scanning every employee.
+@Service
+public class UpcomingEventService {
+
+    public static final String BIRTHDAY = "birthday";
+    public static final String ANNIVERSARY = "anniversary";
+
+    private static final int FEB_29_DAY_OF_YEAR = 60;
+    private static final int MAX_DAYS = 365;
+
+    private final EmployeeRepository employeeRepository;
+    private final ShardRouter shardRouter;
+    private final TransactionTemplate transactionTemplate;
+
+    public UpcomingEventService(EmployeeRepository employeeRepository, ShardRouter shardRouter,
+                                PlatformTransactionManager transactionManager) {
+        this.employeeRepository = employeeRepository;
+        this.shardRouter = shardRouter;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Transactional(readOnly = true)
+    public List<UpcomingEventDTO> getUpcomingEvents(String type, int days) {
+        if (shardRouter.isSharded()) {
+            throw new ValidationException("Upcoming events are not supported in sharded mode.");
+        }
+        if (days < 0 || days > MAX_DAYS) {
+            throw new ValidationException("days must be between 0 and " + MAX_DAYS + ".");
+        }
+        LocalDate from = LocalDate.now();
+        LocalDate to = from.plusDays(days);
+        int[][] ranges = dayOfYearRanges(from, to);
+
+        BiFunction<Integer, Integer, List<Employee>> rangeQuery;
+        Function<Employee, LocalDate> eventDate;
+        if (BIRTHDAY.equalsIgnoreCase(type)) {
+            rangeQuery = employeeRepository::findByBirthDayOfYearBetween;
+            eventDate = Employee::getDateOfBirth;
+        } else if (ANNIVERSARY.equalsIgnoreCase(type)) {
+            rangeQuery = employeeRepository::findByJoiningDayOfYearBetween;
+            eventDate = Employee::getJoiningDate;
+        } else {
+            throw new ValidationException("type must be '" + BIRTHDAY + "' or '" + ANNIVERSARY + "'.");
+        }
+        // A second query only when the window wraps past Dec 31; the ranges never overlap
+        List<Employee> matches = new ArrayList<>();
+        for (int[] range : ranges) {
+            matches.addAll(rangeQuery.apply(range[0], range[1]));
+        }
+
+        List<UpcomingEventDTO> events = new ArrayList<>(matches.size());
+        for (Employee employee : matches) {
+            LocalDate original = eventDate.apply(employee);
+            LocalDate occurrence = nextOccurrence(original, from, to);
+            if (occurrence == null) {
+                continue;
+            }
+            long years = ChronoUnit.YEARS.between(original, occurrence);
+            // A Feb 29 date observed on Feb 28 is one day short of a full year
+            if (occurrence.getMonth() != original.getMonth() || occurrence.getDayOfMonth() != original.getDayOfMonth()) {
+                years++;
+            }
+            if (years > 0) { // No "0th anniversary" on the joining day itself
+                events.add(new UpcomingEventDTO(employee.getId(), employee.getName(), type.toLowerCase(), occurrence, (int) years));
+            }
+        }
+        events.sort(Comparator.comparing(UpcomingEventDTO::getDate).thenComparing(UpcomingEventDTO::getEmployeeId));
+        return events;
+    }
+
+    // Leap-year day-of-year numbers covered by [from, to]. In a non-leap year Feb 29 dates are
+    // observed on Feb 28, so day 60 is included whenever Feb 28 is. The result is a contiguous
+    // cyclic interval, i.e. one range, or two when the window crosses Dec 31.
+    static int[][] dayOfYearRanges(LocalDate from, LocalDate to) {
+        if (ChronoUnit.DAYS.between(from, to) >= 365) {
+            return new int[][]{{1, 366}};
+        }
+        int start = Employee.leapYearDayOfYear(from);
+        int end = Employee.leapYearDayOfYear(to);
+        if (!to.isLeapYear() && to.getMonth() == Month.FEBRUARY && to.getDayOfMonth() == 28) {
+            end = FEB_29_DAY_OF_YEAR;
+        }
+        if (start <= end) {
+            return new int[][]{{start, end}};
+        }
+        return new int[][]{{start, 366}, {1, end}};
+    }
+
+    static LocalDate nextOccurrence(LocalDate original, LocalDate from, LocalDate to) {
+        for (int year = from.getYear(); year <= to.getYear(); year++) {
+            LocalDate candidate = original.getMonth() == Month.FEBRUARY && original.getDayOfMonth() == 29 && !LocalDate.of(year, 1, 1).isLeapYear()
+                    ? LocalDate.of(year, Month.FEBRUARY, 28)
+                    : LocalDate.of(year, original.getMonth(), original.getDayOfMonth());
+            if (!candidate.isBefore(from) && !candidate.isAfter(to)) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+
+    // Fills the day-of-year columns for rows that predate them, in batches
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillDayOfYearIndex() {
+        boolean more = true;
+        while (more) {
+            more = Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+                List<Employee> batch = employeeRepository.findMissingDayOfYearIndex(PageRequest.of(0, 500));
+                batch.forEach(Employee::indexDaysOfYear);
+                return !batch.isEmpty();
+            }));
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package com.example.employeemanagementsystem.stats;
+
+// Mergeable quantile sketch with a relative error bound (the DDSketch construction). Values are
+// counted in logarithmic buckets (gamma^(i-1), gamma^i] with gamma = (1 + a) / (1 - a), and a
+// quantile is answered with its bucket's midpoint 2 * gamma^i / (gamma + 1). Every value in the
+// bucket is within a relative error `a` of that midpoint, so for any q the answer is within
+// a * x of the exact value x at rank floor(q * (n - 1)).
+//
+// Unlike t-digest or KLL, counts can be decremented: a salary change removes the old value and
+// adds the new one without degrading accuracy. Two sketches with the same accuracy merge by
+// adding bucket counts. Memory is one int per bucket between the lowest and highest value,
+// capped at maxBuckets. At a = 1% that covers a ratio of e^40 between the smallest and largest
+// salary; beyond it the lowest buckets are collapsed, and only quantiles landing in them lose
+// the bound.
+public final class SalarySketch {
+
+    // Smallest distinguishable value; anything at or below it (e.g. a zero salary) is counted here
+    private static final double MIN_VALUE = 0.01;
+
+    private final double relativeAccuracy;
+    private final double gamma;
+    private final double logGamma;
+    private final int maxBuckets;
+
+    private int[] counts = new int[0];
+    private int offset; // Bucket index of counts[0]
+    private long count;
+
+    public SalarySketch(double relativeAccuracy, int maxBuckets) {
+        if (relativeAccuracy <= 0 || relativeAccuracy >= 1) {
+            throw new IllegalArgumentException("relativeAccuracy must be between 0 and 1");
+        }
+        if (maxBuckets < 1) {
+            throw new IllegalArgumentException("maxBuckets must be positive");
+        }
+        this.relativeAccuracy = relativeAccuracy;
+        this.gamma = (1 + relativeAccuracy) / (1 - relativeAccuracy);
+        this.logGamma = Math.log(gamma);
+        this.maxBuckets = maxBuckets;
+    }
+
+    public void add(double value) {
+        int index = index(value);
+        ensureCovers(index);
+        counts[slot(index)]++;
+        count++;
+    }
+
+    // Removing a value that was never added is ignored; the periodic rebuild repairs such drift
+    public void remove(double value) {
+        if (count == 0) {
+            return;
+        }
+        int index = index(value);
+        if (index >= offset + counts.length) {
+            return;
+        }
+        int slot = slot(index);
+        if (counts[slot] > 0) {
+            counts[slot]--;
+            count--;
+        }
+    }
+
+    public void merge(SalarySketch other) {
+        if (other.gamma != gamma) {
+            throw new IllegalArgumentException("Cannot merge sketches with different relative accuracy");
+        }
+        for (int i = 0; i < other.counts.length; i++) {
+            if (other.counts[i] > 0) {
+                int index = other.offset + i;
+                ensureCovers(index);
+                counts[slot(index)] += other.counts[i];
+            }
+        }
+        count += other.count;
+    }
+
+    // Value at rank floor(q * (n - 1)), within relativeAccuracy; NaN when empty
+    public double quantile(double q) {
+        if (q < 0 || q > 1) {
+            throw new IllegalArgumentException("q must be between 0 and 1");
+        }
+        if (count == 0) {
+            return Double.NaN;
+        }
+        long rank = (long) (q * (count - 1));
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen > rank) {
+                return value(offset + i);
+            }
+        }
+        return value(offset + counts.length - 1);
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public double getRelativeAccuracy() {
+        return relativeAccuracy;
+    }
+
+    private int index(double value) {
+        return (int) Math.ceil(Math.log(Math.max(value, MIN_VALUE)) / logGamma);
+    }
+
+    private double value(int index) {
+        return 2 * Math.pow(gamma, index) / (gamma + 1);
+    }
+
+    // Values below the collapsed range are counted in the lowest bucket
+    private int slot(int index) {
+        return Math.max(index, offset) - offset;
+    }
+
+    private void ensureCovers(int index) {
+        if (counts.length == 0) {
+            counts = new int[1];
+            offset = index;
+            return;
+        }
+        int high = offset + counts.length - 1;
+        if (index >= offset && index <= high) {
+            return;
+        }
+        int newHigh = Math.max(high, index);
+        int newLow = Math.max(Math.min(offset, index), newHigh - maxBuckets + 1);
+        if (newLow == offset && newHigh == high) {
+            return; // index is below the collapsed range
+        }
+        int[] grown = new int[newHigh - newLow + 1];
+        for (int i = 0; i < counts.length; i++) {
+            grown[Math.max(offset + i, newLow) - newLow] += counts[i];
+        }
+        counts = grown;
+        offset = newLow;
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.employeemanagementsystem.cache;
+
+import com.example.employeemanagementsystem.dto.EmployeeCreateRequestDTO;
+import com.example.employeemanagementsystem.dto.EmployeeLookupDTO;
+import com.example.employeemanagementsystem.dto.EmployeeUpdateRequestDTO;
+import com.example.employeemanagementsystem.service.EmployeeService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class EmployeeNameDirectoryTests {
+
+    // Far above any generated ID, so these entries never collide with real employees
+    private static final long SCRATCH_ID = Long.MAX_VALUE - 1;
+
+    @Autowired
+    private EmployeeNameDirectory employeeNameDirectory;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void loadedAtStartupWithEveryEmployee() {
+        Map<Long, String> names = jdbcTemplate.query("SELECT id, name FROM employees", resultSet -> {
+            Map<Long, String> rows = new HashMap<>();
+            while (resultSet.next()) {
+                rows.put(resultSet.getLong(1), resultSet.getString(2));
+            }
+            return rows;
+        });
+
+        assertThat(employeeNameDirectory.size()).isEqualTo(names.size());
+        names.forEach((id, name) -> assertThat(employeeNameDirectory.findName(id)).isEqualTo(name));
+
+        List<EmployeeLookupDTO> firstPage = employeeNameDirectory.findPage(0, 5).toLookupDTOs();
+        assertThat(firstPage).extracting(EmployeeLookupDTO::getId).isSorted();
+    }
+
+    @Test
+    void followsCommittedCreatesAndRenames() {
+        EmployeeCreateRequestDTO create = new EmployeeCreateRequestDTO();
+        create.setName("Directory Original");
+        create.setDateOfBirth(LocalDate.of(1985, 6, 1));
+        create.setSalary(new BigDecimal("42000.00"));
+        create.setRole("Analyst");
+        create.setJoiningDate(LocalDate.of(2020, 1, 6));
+        create.setYearlyBonusPercentage(1.0);
+        Long id = employeeService.createEmployee(create).getId();
+        assertThat(employeeNameDirectory.findName(id)).isEqualTo("Directory Original");
+
+        EmployeeUpdateRequestDTO rename = new EmployeeUpdateRequestDTO();
+        rename.setName("Directory Renamed — Ünicode");
+        employeeService.updateEmployee(id, rename);
+        assertThat(employeeNameDirectory.findName(id)).isEqualTo("Directory Renamed — Ünicode");
+    }
+
+    @Test
+    void repeatedRenamesReclaimArenaSpace() {
+        try {
+            employeeNameDirectory.putAfterCommit(SCRATCH_ID, "x".repeat(200));
+            long footprint = employeeNameDirectory.memoryBytes();
+            for (int i = 0; i < 10_000; i++) {
+                employeeNameDirectory.putAfterCommit(SCRATCH_ID, "Rename " + i + " " + "x".repeat(190));
+            }
+            assertThat(employeeNameDirectory.findName(SCRATCH_ID)).isEqualTo("Rename 9999 " + "x".repeat(190));
+            assertThat(employeeNameDirectory.memoryBytes()).isLessThan(footprint + 64 * 1024);
+
+            List<Long> ids = jdbcTemplate.queryForList("SELECT id FROM employees", Long.class);
+            Map<Long, String> names = ids.stream().collect(Collectors.toMap(id -> id, employeeNameDirectory::findName));
+            assertThat(names).doesNotContainValue(null);
+        } finally {
+            employeeNameDirectory.removeAfterCommit(List.of(SCRATCH_ID));
+        }
+        assertThat(employeeNameDirectory.findName(SCRATCH_ID)).isNull();
+    }
+}
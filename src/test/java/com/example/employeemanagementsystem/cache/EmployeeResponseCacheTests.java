@@ -0,0 +1,60 @@
+package com.example.employeemanagementsystem.cache;
+
+import com.example.employeemanagementsystem.dto.DepartmentLookupDTO;
+import com.example.employeemanagementsystem.dto.EmployeeResponseDTO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EmployeeResponseCacheTests {
+
+    private final EmployeeResponseCache cache = new EmployeeResponseCache(true, 1 << 20, new SimpleMeterRegistry());
+
+    @Test
+    void loadOverlappingDepartmentEvictionIsNotCached() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch evicted = new CountDownLatch(1);
+        CompletableFuture<EmployeeResponseDTO> staleLoad = CompletableFuture.supplyAsync(() -> cache.get(1L, id -> {
+            loading.countDown();
+            await(evicted);
+            return employee(id, "Department Before Rename"); // Read before the rename committed
+        }));
+
+        assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+        cache.evictByDepartmentAfterCommit(10L); // No transaction: runs at once, like afterCommit
+        evicted.countDown();
+        assertThat(staleLoad.get(5, TimeUnit.SECONDS).getDepartment().getName()).isEqualTo("Department Before Rename");
+
+        AtomicInteger loads = new AtomicInteger();
+        EmployeeResponseDTO reloaded = cache.get(1L, id -> {
+            loads.incrementAndGet();
+            return employee(id, "Department After Rename");
+        });
+        assertThat(loads).hasValue(1);
+        assertThat(reloaded.getDepartment().getName()).isEqualTo("Department After Rename");
+        assertThat(cache.get(1L, id -> employee(id, "Unused")).getDepartment().getName()).isEqualTo("Department After Rename");
+    }
+
+    private static EmployeeResponseDTO employee(Long id, String departmentName) {
+        EmployeeResponseDTO dto = new EmployeeResponseDTO();
+        dto.setId(id);
+        dto.setName("Employee " + id);
+        dto.setDepartment(new DepartmentLookupDTO(10L, departmentName));
+        return dto;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
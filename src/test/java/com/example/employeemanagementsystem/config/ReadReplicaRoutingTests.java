@@ -0,0 +1,77 @@
+package com.example.employeemanagementsystem.config;
+
+import com.example.employeemanagementsystem.dto.EmployeeUpdateRequestDTO;
+import com.example.employeemanagementsystem.service.EmployeeService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// A second in-memory H2 database stands in for the replica. It has no tables, so any query that
+// wrongly reaches it fails.
+@SpringBootTest(properties = {
+        "app.datasource.replica.url=jdbc:h2:mem:replicadb;DB_CLOSE_DELAY=-1",
+        "app.datasource.replica.sticky-window-ms=200",
+        "app.cache.employee.enabled=true"
+})
+class ReadReplicaRoutingTests {
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @BeforeEach
+    void clearPrimaryPin() {
+        ReadYourWritesContext.endRequest();
+    }
+
+    @Test
+    void readOnlyTransactionsUseReplica() {
+        assertThat(databaseName(true)).isEqualToIgnoringCase("replicadb");
+    }
+
+    @Test
+    void readWriteTransactionsUsePrimary() {
+        assertThat(databaseName(false)).isEqualToIgnoringCase("employeedb");
+    }
+
+    @Test
+    void readsStayOnPrimaryWithinStickyWindowAfterWrite() throws InterruptedException {
+        databaseName(false);
+        assertThat(databaseName(true)).isEqualToIgnoringCase("employeedb");
+
+        Thread.sleep(300);
+        assertThat(databaseName(true)).isEqualToIgnoringCase("replicadb");
+    }
+
+    // Another client's read, outside any sticky window, must still cache the committed row
+    @Test
+    void cachedEmployeesAreLoadedFromPrimary() {
+        Long id = jdbcTemplate.queryForObject("SELECT MIN(id) FROM employees", Long.class);
+        assertThat(employeeService.getEmployeeById(id).getId()).isEqualTo(id);
+
+        EmployeeUpdateRequestDTO rename = new EmployeeUpdateRequestDTO();
+        rename.setName("Replica Cache Rename");
+        employeeService.updateEmployee(id, rename);
+        ReadYourWritesContext.endRequest();
+
+        assertThat(employeeService.getEmployeeById(id).getName()).isEqualTo("Replica Cache Rename");
+        assertThat(databaseName(true)).isEqualToIgnoringCase("replicadb");
+    }
+
+    private String databaseName(boolean readOnly) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(readOnly);
+        return transactionTemplate.execute(status -> jdbcTemplate.queryForObject("SELECT DATABASE()", String.class));
+    }
+}
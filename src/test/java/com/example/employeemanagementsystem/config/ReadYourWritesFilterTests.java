@@ -0,0 +1,41 @@
+package com.example.employeemanagementsystem.config;
+
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReadYourWritesFilterTests {
+
+    private static final long STICKY_WINDOW_MS = 5000;
+
+    private final ReadYourWritesFilter filter = new ReadYourWritesFilter(STICKY_WINDOW_MS);
+
+    @Test
+    void cookieWithinTheStickyWindowPinsTheRequest() throws Exception {
+        assertThat(pinnedWithCookie(Long.toString(System.currentTimeMillis() + STICKY_WINDOW_MS / 2))).isTrue();
+    }
+
+    @Test
+    void cookieBeyondTheStickyWindowIsIgnored() throws Exception {
+        assertThat(pinnedWithCookie(Long.toString(System.currentTimeMillis() + 10 * STICKY_WINDOW_MS))).isFalse();
+        assertThat(pinnedWithCookie(Long.toString(Long.MAX_VALUE))).isFalse();
+    }
+
+    @Test
+    void expiredOrMalformedCookieIsIgnored() throws Exception {
+        assertThat(pinnedWithCookie(Long.toString(System.currentTimeMillis() - 1000))).isFalse();
+        assertThat(pinnedWithCookie("forever")).isFalse();
+    }
+
+    private boolean pinnedWithCookie(String value) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/employees");
+        request.setCookies(new Cookie(ReadYourWritesContext.COOKIE_NAME, value));
+        boolean[] pinned = new boolean[1];
+        filter.doFilter(request, new MockHttpServletResponse(),
+                (req, res) -> pinned[0] = ReadYourWritesContext.isPinnedToPrimary());
+        return pinned[0];
+    }
+}
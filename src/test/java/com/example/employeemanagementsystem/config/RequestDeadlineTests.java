@@ -0,0 +1,63 @@
+package com.example.employeemanagementsystem.config;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionTimedOutException;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class RequestDeadlineTests {
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void transactionTimeoutIsCappedAtRemainingDeadline() {
+        long timeToLive = RequestDeadline.callWithin(new RequestDeadline("test", 2500), () ->
+                new TransactionTemplate(transactionManager).execute(status -> {
+                    EntityManagerHolder holder = (EntityManagerHolder) TransactionSynchronizationManager.getResource(entityManagerFactory);
+                    return holder.getTimeToLiveInMillis();
+                }));
+        assertThat(timeToLive).isPositive().isLessThanOrEqualTo(3000);
+    }
+
+    @Test
+    void transactionsWithoutDeadlineHaveNoTimeout() {
+        boolean hasTimeout = new TransactionTemplate(transactionManager).execute(status ->
+                ((EntityManagerHolder) TransactionSynchronizationManager.getResource(entityManagerFactory)).hasTimeout());
+        assertThat(hasTimeout).isFalse();
+    }
+
+    @Test
+    void expiredDeadlineRefusesNewTransactions() {
+        RequestDeadline expired = new RequestDeadline("test", 0);
+        assertThatThrownBy(() -> RequestDeadline.callWithin(expired, () ->
+                new TransactionTemplate(transactionManager).execute(status -> 1)))
+                .isInstanceOf(TransactionTimedOutException.class);
+    }
+
+    @Test
+    void malformedTimeoutHeaderIsRejected() throws Exception {
+        mockMvc.perform(get("/api/departments").header("X-Request-Timeout-Ms", "soon"))
+                .andExpect(status().isBadRequest());
+    }
+}
@@ -0,0 +1,101 @@
+package com.example.employeemanagementsystem.config;
+
+import com.example.employeemanagementsystem.dto.EmployeeResponseDTO;
+import com.example.employeemanagementsystem.dto.EmployeeUpdateDepartmentRequestDTO;
+import com.example.employeemanagementsystem.dto.PagedResponse;
+import com.example.employeemanagementsystem.service.EmployeeService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Three in-memory H2 databases stand in for the shards
+@SpringBootTest(properties = {
+        "app.sharding.shard-urls=" + ShardingTests.SHARD_0 + "," + ShardingTests.SHARD_1 + "," + ShardingTests.SHARD_2,
+        "spring.jpa.open-in-view=false"
+})
+class ShardingTests {
+
+    static final String SHARD_0 = "jdbc:h2:mem:shardtest0;DB_CLOSE_DELAY=-1";
+    static final String SHARD_1 = "jdbc:h2:mem:shardtest1;DB_CLOSE_DELAY=-1";
+    static final String SHARD_2 = "jdbc:h2:mem:shardtest2;DB_CLOSE_DELAY=-1";
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    private final List<JdbcTemplate> shards = List.of(shard(SHARD_0), shard(SHARD_1), shard(SHARD_2));
+
+    @Test
+    void employeesLiveOnTheirDepartmentsShard() {
+        for (int i = 0; i < shards.size(); i++) {
+            Integer misplaced = shards.get(i).queryForObject(
+                    "SELECT COUNT(*) FROM employees WHERE (department_id IS NULL AND ? <> 0) " +
+                            "OR (department_id IS NOT NULL AND MOD(department_id, 3) <> ?)",
+                    Integer.class, i, i);
+            assertThat(misplaced).isZero();
+        }
+    }
+
+    @Test
+    void departmentsAreReplicatedToEveryShard() {
+        List<Long> reference = departmentIds(shards.get(0));
+        assertThat(reference).isNotEmpty();
+        for (JdbcTemplate shard : shards) {
+            assertThat(departmentIds(shard)).isEqualTo(reference);
+        }
+    }
+
+    @Test
+    void pagesAreMergedAcrossShardsInIdOrder() {
+        long total = shards.stream()
+                .mapToLong(shard -> shard.queryForObject("SELECT COUNT(*) FROM employees", Long.class))
+                .sum();
+
+        List<Long> ids = new ArrayList<>();
+        for (int page = 0; ids.size() < total; page++) {
+            PagedResponse<EmployeeResponseDTO> response = employeeService.getAllEmployees(page, 4, false);
+            assertThat(response.getTotalElements()).isEqualTo(total);
+            response.getContent().forEach(employee -> ids.add(employee.getId()));
+        }
+
+        assertThat(ids).hasSize((int) total).isSorted().doesNotHaveDuplicates();
+    }
+
+    @Test
+    void departmentMoveRelocatesEmployeeToTargetShard() {
+        Long employeeId = shards.get(1).queryForObject("SELECT MIN(id) FROM employees WHERE department_id = 1", Long.class);
+        long targetHeadcountBefore = headcount(shards.get(2), 2L);
+
+        EmployeeUpdateDepartmentRequestDTO request = new EmployeeUpdateDepartmentRequestDTO();
+        request.setNewDepartmentId(2L);
+        EmployeeResponseDTO moved = employeeService.updateEmployeeDepartment(employeeId, request);
+
+        assertThat(moved.getDepartment().getId()).isEqualTo(2L);
+        assertThat(employeeCount(shards.get(1), employeeId)).isZero();
+        assertThat(employeeCount(shards.get(2), employeeId)).isEqualTo(1);
+        assertThat(headcount(shards.get(2), 2L)).isEqualTo(targetHeadcountBefore + 1);
+        assertThat(employeeService.getEmployeeById(employeeId).getDepartment().getId()).isEqualTo(2L);
+    }
+
+    private static JdbcTemplate shard(String url) {
+        return new JdbcTemplate(new DriverManagerDataSource(url, "sa", "password"));
+    }
+
+    private static List<Long> departmentIds(JdbcTemplate shard) {
+        return shard.queryForList("SELECT id FROM departments ORDER BY id", Long.class);
+    }
+
+    private static long headcount(JdbcTemplate shard, Long departmentId) {
+        return shard.queryForObject("SELECT headcount FROM departments WHERE id = ?", Long.class, departmentId);
+    }
+
+    private static int employeeCount(JdbcTemplate shard, Long employeeId) {
+        return shard.queryForObject("SELECT COUNT(*) FROM employees WHERE id = ?", Integer.class, employeeId);
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.employeemanagementsystem.graphql;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.everyItem;
+import static org.hamcrest.Matchers.is;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureMockMvc
+class OrgGraphControllerTests {
+
+    // Four levels below the root: departments, their heads and employees, and those employees' managers
+    private static final String DEPARTMENT_GRAPH = """
+            { departments(size: %d) { name departmentHead { name } employees { name reportingManager { name } } } }""";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void statementCountDependsOnDepthNotOnNodeCount() throws Exception {
+        long twoDepartments = statementsFor(DEPARTMENT_GRAPH.formatted(2), 2);
+        long fiveDepartments = statementsFor(DEPARTMENT_GRAPH.formatted(5), 5);
+
+        assertThat(fiveDepartments).isEqualTo(twoDepartments).isLessThanOrEqualTo(4);
+    }
+
+    @Test
+    void resolvesNestedEmployeeGraph() throws Exception {
+        execute("{ employee(id: 1) { name department { name } directReports { name reportingManager { id } } } }")
+                .andExpect(jsonPath("$.data.employee.name").isNotEmpty())
+                .andExpect(jsonPath("$.data.employee.directReports[*].reportingManager.id").value(everyItem(is("1"))));
+    }
+
+    @Test
+    void oversizedPageIsReportedAsBadRequest() throws Exception {
+        execute("{ employees(size: 1000) { id } }")
+                .andExpect(jsonPath("$.errors[0].extensions.classification").value("BAD_REQUEST"));
+    }
+
+    @Test
+    void nestedListsReturnTheirFirstEntries() throws Exception {
+        execute("{ employee(id: 1) { directReports(first: 1) { id } } }")
+                .andExpect(jsonPath("$.data.employee.directReports.length()").value(1));
+        execute("{ departments(size: 1) { employees(first: 0) { id } } }")
+                .andExpect(jsonPath("$.data.departments[0].employees.length()").value(0));
+        execute("{ employee(id: 1) { directReports(first: 1000) { id } } }")
+                .andExpect(jsonPath("$.errors[0].extensions.classification").value("BAD_REQUEST"));
+    }
+
+    @Test
+    void queryWithTooLargeAResponseIsRejectedBeforeItRuns() throws Exception {
+        // 100 departments x 100 employees x 100 direct reports is well over the complexity limit
+        execute("{ departments(size: 100) { employees(first: 100) { name directReports(first: 100) { name } } } }")
+                .andExpect(jsonPath("$.data").doesNotExist())
+                .andExpect(jsonPath("$.errors[0].message").value(containsString("complexity")));
+    }
+
+    private long statementsFor(String query, int expectedDepartments) throws Exception {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        execute(query).andExpect(jsonPath("$.data.departments.length()").value(expectedDepartments));
+        return statistics.getPrepareStatementCount();
+    }
+
+    private ResultActions execute(String query) throws Exception {
+        String body = "{\"query\": " + objectMapper.writeValueAsString(query) + "}";
+        MvcResult result = mockMvc.perform(post("/api/graphql").contentType(MediaType.APPLICATION_JSON).content(body))
+                .andReturn();
+        return mockMvc.perform(asyncDispatch(result)).andExpect(status().isOk());
+    }
+}
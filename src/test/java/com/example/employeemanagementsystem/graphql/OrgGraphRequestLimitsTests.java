@@ -0,0 +1,72 @@
+package com.example.employeemanagementsystem.graphql;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import static org.hamcrest.Matchers.hasItem;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// POST /api/graphql is a functional route rather than a controller method; it still gets an admission
+// limit and a deadline of its own
+@SpringBootTest(properties = {
+        "app.admission.limits[/api/graphql]=1",
+        "app.admission.min-limit=1",
+        "app.admission.max-queue=0"
+})
+@AutoConfigureMockMvc
+class OrgGraphRequestLimitsTests {
+
+    private static final String DEPARTMENT_GRAPH =
+            "{ departments(size: 5) { name departmentHead { name } employees { name reportingManager { name directReports { name } } } } }";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void requestsOverTheLimitAreRejected() throws Exception {
+        // The permit is held until the async dispatch completes the first request
+        MvcResult admitted = mockMvc.perform(graphql("{ employees(size: 1) { id } }")).andReturn();
+
+        mockMvc.perform(graphql("{ employees(size: 1) { id } }"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().exists(HttpHeaders.RETRY_AFTER));
+
+        mockMvc.perform(asyncDispatch(admitted)).andExpect(status().isOk());
+        MvcResult next = mockMvc.perform(graphql("{ employees(size: 1) { id } }")).andReturn();
+        mockMvc.perform(asyncDispatch(next)).andExpect(status().isOk());
+    }
+
+    @Test
+    void resolversStopOnceTheDeadlinePasses() throws Exception {
+        MvcResult result = mockMvc.perform(graphql(DEPARTMENT_GRAPH).header("X-Request-Timeout-Ms", "1")).andReturn();
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.errors[*].extensions.classification").value(hasItem("DEADLINE_EXCEEDED")));
+    }
+
+    @Test
+    void malformedTimeoutHeaderIsRejected() throws Exception {
+        mockMvc.perform(graphql("{ employees(size: 1) { id } }").header("X-Request-Timeout-Ms", "soon"))
+                .andExpect(status().isBadRequest());
+    }
+
+    private MockHttpServletRequestBuilder graphql(String query) throws Exception {
+        String body = "{\"query\": " + objectMapper.writeValueAsString(query) + "}";
+        return post("/api/graphql").contentType(MediaType.APPLICATION_JSON).content(body);
+    }
+}
@@ -0,0 +1,116 @@
+package com.example.employeemanagementsystem.jfr;
+
+import com.example.employeemanagementsystem.service.EmployeeService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "app.jfr.events.enabled=true",
+        "management.endpoints.web.exposure.include=jfr"
+})
+@AutoConfigureMockMvc
+class JfrEventTests {
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void serviceRepositoryAndMappingCallsAreRecorded() throws Exception {
+        List<RecordedEvent> events;
+        Path file = Files.createTempFile("jfr-event-tests-", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(ServiceOperationEvent.class);
+            recording.enable(RepositoryCallEvent.class);
+            recording.enable(DtoMappingEvent.class);
+            recording.start();
+            employeeService.getAllEmployees(0, 5, false);
+            recording.stop();
+            recording.dump(file);
+            events = RecordingFile.readAllEvents(file);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+
+        RecordedEvent service = only(events, "com.example.employeemanagementsystem.ServiceOperation", "EmployeeService.getAllEmployees");
+        assertThat(service.getInt("pageSize")).isEqualTo(5);
+        assertThat(service.getLong("rowCount")).isBetween(1L, 5L);
+        assertThat(service.getDuration()).isPositive();
+
+        RecordedEvent repository = only(events, "com.example.employeemanagementsystem.RepositoryCall", "EmployeeRepository.findAll");
+        assertThat(repository.getInt("pageSize")).isEqualTo(5);
+        assertThat(repository.getLong("rowCount")).isEqualTo(service.getLong("rowCount"));
+
+        RecordedEvent mapping = only(events, "com.example.employeemanagementsystem.DtoMapping", "EmployeeResponseDTO");
+        assertThat(mapping.getLong("rowCount")).isEqualTo(service.getLong("rowCount"));
+    }
+
+    @Test
+    void endpointStartsAndDumpsBoundedRecording() throws Exception {
+        String started = mockMvc.perform(post("/actuator/jfr")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"durationSeconds\": 5}"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        JsonNode descriptor = objectMapper.readTree(started);
+        assertThat(descriptor.get("state").asText()).isEqualTo("RUNNING");
+        assertThat(descriptor.get("durationSeconds").asLong()).isEqualTo(5);
+
+        byte[] dump = mockMvc.perform(get("/actuator/jfr/{id}", descriptor.get("id").asLong()))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsByteArray();
+        assertThat(new String(dump, 0, 3, StandardCharsets.US_ASCII)).isEqualTo("FLR"); // JFR file magic
+
+        Path file = Files.write(Files.createTempFile("jfr-endpoint-tests-", ".jfr"), dump);
+        try {
+            assertThat(RecordingFile.readAllEvents(file))
+                    .extracting(event -> event.getEventType().getName())
+                    .doesNotContain("jdk.InitialEnvironmentVariable", "jdk.InitialSystemProperty",
+                            "jdk.JVMInformation", "jdk.SystemProcess");
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    void recordingsLongerThanTheCapAreRejected() throws Exception {
+        mockMvc.perform(post("/actuator/jfr")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"durationSeconds\": 86400}"))
+                .andExpect(status().isBadRequest());
+    }
+
+    private static RecordedEvent only(List<RecordedEvent> events, String type, String operation) {
+        List<RecordedEvent> matching = events.stream()
+                .filter(event -> event.getEventType().getName().equals(type))
+                .filter(event -> event.getThread().getJavaThreadId() == Thread.currentThread().getId()) // Not scheduled jobs
+                .filter(event -> operation.equals(event.getString("operation")))
+                .toList();
+        assertThat(matching).hasSize(1);
+        return matching.get(0);
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.employeemanagementsystem.json;
+
+import com.example.employeemanagementsystem.service.EmployeeService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Bytes allocated per row on GET /api/employees: DTO graph + Jackson vs. the streaming writer.
+// Not picked up by the default surefire includes; run with
+//   mvn test -Dtest=EmployeePageAllocationBenchmark
+// The seeded employees go into a database of its own, and the context is closed afterwards, so they
+// never show up in the shared employeedb other tests count and page through.
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:allocationbenchmark")
+@DirtiesContext
+class EmployeePageAllocationBenchmark {
+
+    private static final Logger log = LoggerFactory.getLogger(EmployeePageAllocationBenchmark.class);
+
+    private static final int EXTRA_EMPLOYEES = 5000;
+    private static final int PAGE_SIZE = 1000;
+    private static final int WARMUP_ITERATIONS = 50;
+    private static final int MEASURED_ITERATIONS = 100;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void allocationsPerRow() throws Exception {
+        seedEmployees();
+
+        Page dtoPath = () -> objectMapper.writeValue(OutputStream.nullOutputStream(),
+                employeeService.getAllEmployees(0, PAGE_SIZE, false));
+        Page streamingPath = () -> employeeService.writeAllEmployees(0, PAGE_SIZE, false, OutputStream.nullOutputStream());
+
+        double dtoBytesPerRow = bytesPerRow(dtoPath);
+        double streamingBytesPerRow = bytesPerRow(streamingPath);
+        log.info("GET /api/employees?size={} allocation per row: DTO + Jackson {} B, streaming writer {} B",
+                PAGE_SIZE, Math.round(dtoBytesPerRow), Math.round(streamingBytesPerRow));
+
+        assertThat(streamingBytesPerRow).isLessThan(dtoBytesPerRow);
+    }
+
+    private double bytesPerRow(Page page) throws Exception {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            page.write();
+        }
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        long before = threads.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            page.write();
+        }
+        long allocated = threads.getThreadAllocatedBytes(threadId) - before;
+        return (double) allocated / ((long) MEASURED_ITERATIONS * PAGE_SIZE);
+    }
+
+    private void seedEmployees() {
+        Long departmentId = jdbcTemplate.queryForObject("SELECT MIN(id) FROM departments", Long.class);
+        Long managerId = jdbcTemplate.queryForObject("SELECT MIN(id) FROM employees", Long.class);
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < EXTRA_EMPLOYEES; i++) {
+            rows.add(new Object[]{"Benchmark Employee " + i, Date.valueOf(LocalDate.of(1980, 1, 1).plusDays(i)),
+                    50000 + i, departmentId, "Street " + i, "Engineer", Date.valueOf(LocalDate.of(2015, 1, 1).plusDays(i)),
+                    5.0, managerId});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO employees (name, date_of_birth, salary, department_id, address, role, " +
+                "joining_date, yearly_bonus_percentage, reporting_manager_id) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)", rows);
+    }
+
+    @FunctionalInterface
+    private interface Page {
+        void write() throws Exception;
+    }
+}
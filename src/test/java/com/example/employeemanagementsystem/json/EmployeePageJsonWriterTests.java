@@ -0,0 +1,103 @@
+package com.example.employeemanagementsystem.json;
+
+import com.example.employeemanagementsystem.dto.DepartmentCreateRequestDTO;
+import com.example.employeemanagementsystem.dto.EmployeeCreateRequestDTO;
+import com.example.employeemanagementsystem.service.DepartmentService;
+import com.example.employeemanagementsystem.service.EmployeeService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.test.annotation.DirtiesContext;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Golden-output check: the streaming writer and Jackson's rendering of the PagedResponse DTOs must
+// both produce the checked-in JSON under src/test/resources/json/employee-pages, for every page
+// shape. The rows are fixed, so the database is one of its own without the random sample data.
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:employeepagejson",
+        "app.sample-data.enabled=false"
+})
+@DirtiesContext
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class EmployeePageJsonWriterTests {
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private DepartmentService departmentService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @BeforeAll
+    void createEmployees() {
+        Long departmentId = departmentService.createDepartment(
+                new DepartmentCreateRequestDTO("Engineering & Ops", LocalDate.of(2020, 1, 1), null)).getId();
+        Long ada = createEmployee("Ada Manager", "1980-05-17", "150000.00", departmentId, "1 Main St", "Director", "2015-03-01", 10.0, null);
+        // Null department, reporting manager and address
+        createEmployee("Golden \"Quoted\" Ünicode", "1990-02-28", "51234.50", null, null, "Contractor", "2021-11-03", 2.5, null);
+        Long grace = createEmployee("Grace Report", "1992-12-31", "72000.05", departmentId, "Flat 2, \"Riverside\"", "Engineer", "2019-07-15", 5.25, ada);
+        createEmployee("Tab\tSeparated", "1995-06-01", "64000.00", departmentId, "9 Elm Rd", "Analyst", "2022-01-10", 3.0, grace);
+        createEmployee("Zoë Nobody", "1999-09-09", "40000.10", null, "", "Intern", "2024-06-03", 0.0, ada);
+    }
+
+    @Test
+    void firstPageMatchesGoldenJson() throws IOException {
+        assertGoldenJson(0, 20, false, "page-0-size-20.json");
+    }
+
+    @Test
+    void lookupPageMatchesGoldenJson() throws IOException {
+        assertGoldenJson(0, 20, true, "page-0-size-20-lookup.json");
+    }
+
+    @Test
+    void partialAndTrailingPagesMatchGoldenJson() throws IOException {
+        assertGoldenJson(0, 3, false, "page-0-size-3.json");
+        assertGoldenJson(1, 3, false, "page-1-size-3.json");
+        assertGoldenJson(1, 2, true, "page-1-size-2-lookup.json");
+    }
+
+    @Test
+    void pageBeyondEndMatchesGoldenJson() throws IOException {
+        assertGoldenJson(1000, 20, false, "page-1000-size-20.json");
+    }
+
+    private void assertGoldenJson(int page, int size, boolean lookup, String fixture) throws IOException {
+        String expected = new ClassPathResource("json/employee-pages/" + fixture)
+                .getContentAsString(StandardCharsets.UTF_8).strip();
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        employeeService.writeAllEmployees(page, size, lookup, out);
+
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo(expected);
+        assertThat(objectMapper.writeValueAsString(employeeService.getAllEmployees(page, size, lookup))).isEqualTo(expected);
+    }
+
+    private Long createEmployee(String name, String dateOfBirth, String salary, Long departmentId, String address,
+                                String role, String joiningDate, double yearlyBonusPercentage, Long reportingManagerId) {
+        EmployeeCreateRequestDTO request = new EmployeeCreateRequestDTO();
+        request.setName(name);
+        request.setDateOfBirth(LocalDate.parse(dateOfBirth));
+        request.setSalary(new BigDecimal(salary));
+        request.setDepartmentId(departmentId);
+        request.setAddress(address);
+        request.setRole(role);
+        request.setJoiningDate(LocalDate.parse(joiningDate));
+        request.setYearlyBonusPercentage(yearlyBonusPercentage);
+        request.setReportingManagerId(reportingManagerId);
+        return employeeService.createEmployee(request).getId();
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.employeemanagementsystem.service;
+
+import com.example.employeemanagementsystem.dto.DepartmentCreateRequestDTO;
+import com.example.employeemanagementsystem.dto.DepartmentResponseDTO;
+import com.example.employeemanagementsystem.dto.DepartmentUpdateRequestDTO;
+import com.example.employeemanagementsystem.dto.EmployeeCreateRequestDTO;
+import com.example.employeemanagementsystem.exception.ValidationException;
+import com.example.employeemanagementsystem.repository.DepartmentRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// Departments and employees created here go into a database of their own
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:departmenttotals")
+@DirtiesContext
+class DepartmentTotalsTests {
+
+    @Autowired
+    private DepartmentService departmentService;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void departmentUpdateKeepsTotalsOfAConcurrentEmployeeCreate() {
+        Long departmentId = createDepartment("Totals Race");
+
+        transactionTemplate.executeWithoutResult(status -> {
+            // The update's transaction reads the department before the employee create commits...
+            assertThat(departmentRepository.findById(departmentId).orElseThrow().getHeadcount()).isZero();
+            CompletableFuture.runAsync(() -> employeeService.createEmployee(employee("Totals Racer", departmentId, "64000.00")))
+                    .orTimeout(30, TimeUnit.SECONDS)
+                    .join();
+
+            // ...and saves it afterwards, with the stale totals still on the entity
+            departmentService.updateDepartment(departmentId,
+                    new DepartmentUpdateRequestDTO("Totals Race Renamed", LocalDate.of(2021, 6, 1), null));
+        });
+
+        DepartmentResponseDTO department = departmentService.getDepartmentById(departmentId, false);
+        assertThat(department.getName()).isEqualTo("Totals Race Renamed");
+        assertThat(department.getHeadcount()).isEqualTo(1L);
+        assertThat(department.getTotalSalary()).isEqualByComparingTo("64000.00");
+    }
+
+    @Test
+    void departmentWithEmployeesIsNotDeletedWhenItsHeadcountHasDrifted() {
+        Long departmentId = createDepartment("Drifted Headcount");
+        employeeService.createEmployee(employee("Still Here", departmentId, "51000.00"));
+        jdbcTemplate.update("UPDATE departments SET headcount = 0 WHERE id = ?", departmentId);
+
+        assertThatThrownBy(() -> departmentService.deleteDepartment(departmentId))
+                .isInstanceOf(ValidationException.class);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM employees WHERE department_id = ?", Integer.class, departmentId)).isEqualTo(1);
+    }
+
+    private Long createDepartment(String name) {
+        return departmentService.createDepartment(new DepartmentCreateRequestDTO(name, LocalDate.of(2021, 6, 1), null)).getId();
+    }
+
+    private static EmployeeCreateRequestDTO employee(String name, Long departmentId, String salary) {
+        EmployeeCreateRequestDTO create = new EmployeeCreateRequestDTO();
+        create.setName(name);
+        create.setDateOfBirth(LocalDate.of(1990, 4, 12));
+        create.setSalary(new BigDecimal(salary));
+        create.setDepartmentId(departmentId);
+        create.setRole("Engineer");
+        create.setJoiningDate(LocalDate.of(2020, 2, 3));
+        create.setYearlyBonusPercentage(4.0);
+        return create;
+    }
+}
@@ -0,0 +1,131 @@
+package com.example.employeemanagementsystem.service;
+
+import com.example.employeemanagementsystem.dto.DepartmentCreateRequestDTO;
+import com.example.employeemanagementsystem.dto.DepartmentResponseDTO;
+import com.example.employeemanagementsystem.dto.DepartmentUpdateRequestDTO;
+import com.example.employeemanagementsystem.dto.EmployeeCreateRequestDTO;
+import com.example.employeemanagementsystem.dto.EmployeeOffboardRequestDTO;
+import com.example.employeemanagementsystem.dto.EmployeeOffboardResponseDTO;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Employees offboarded here go into a database of their own
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:offboarding")
+@AutoConfigureMockMvc
+@DirtiesContext
+class EmployeeArchiveServiceTests {
+
+    private static final LocalDate DEPARTURE_DATE = LocalDate.of(2025, 6, 30);
+
+    @Autowired
+    private EmployeeArchiveService employeeArchiveService;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private DepartmentService departmentService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void offboardingAManagementChainReparentsPastEveryDepartingManager() throws Exception {
+        Long platformId = createDepartment("Offboarding Platform");
+        Long toolsId = createDepartment("Offboarding Tools");
+
+        // top <- first <- second <- third <- worker, plus sibling reporting to second.
+        // first, second and third leave together.
+        Long top = createEmployee("Chain Top", platformId, "100000.00", null);
+        Long first = createEmployee("Chain First", platformId, "90000.00", top);
+        Long second = createEmployee("Chain Second", platformId, "80000.00", first);
+        Long third = createEmployee("Chain Third", toolsId, "70000.00", second);
+        Long sibling = createEmployee("Chain Sibling", platformId, "60000.00", second);
+        Long worker = createEmployee("Chain Worker", toolsId, "50000.00", third);
+        setDepartmentHead(platformId, "Offboarding Platform", first);
+        setDepartmentHead(toolsId, "Offboarding Tools", third);
+
+        EmployeeOffboardResponseDTO response = employeeArchiveService.offboardEmployees(
+                new EmployeeOffboardRequestDTO(List.of(third, first, second, 999_999L), DEPARTURE_DATE));
+
+        assertThat(response.getArchivedEmployees()).isEqualTo(3);
+        assertThat(response.getReparentedReports()).isEqualTo(2);
+        assertThat(response.getClearedDepartmentHeads()).isEqualTo(2);
+        assertThat(response.getNotFoundEmployeeIds()).containsExactly(999_999L);
+
+        // Both remaining reports end up under the first manager who stays
+        assertThat(managerOf(sibling)).isEqualTo(top);
+        assertThat(managerOf(worker)).isEqualTo(top);
+        assertThat(managerOf(top)).isNull();
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM employees WHERE id IN (?, ?, ?)", Integer.class, first, second, third)).isZero();
+        // The reports' history has a new open version with their new manager
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT reporting_manager_id FROM employee_history WHERE employee_id = ? AND valid_to = TIMESTAMP '9999-12-31 00:00:00'",
+                Long.class, worker)).isEqualTo(top);
+
+        DepartmentResponseDTO platform = departmentService.getDepartmentById(platformId, false);
+        assertThat(platform.getDepartmentHead()).isNull();
+        assertThat(platform.getHeadcount()).isEqualTo(2L);
+        assertThat(platform.getTotalSalary()).isEqualByComparingTo("160000.00");
+        DepartmentResponseDTO tools = departmentService.getDepartmentById(toolsId, false);
+        assertThat(tools.getDepartmentHead()).isNull();
+        assertThat(tools.getHeadcount()).isEqualTo(1L);
+        assertThat(tools.getTotalSalary()).isEqualByComparingTo("50000.00");
+
+        // Archived rows keep the employee's ID and their state at departure
+        mockMvc.perform(get("/api/archived-employees/{id}", second))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name").value("Chain Second"))
+                .andExpect(jsonPath("$.department.name").value("Offboarding Platform"))
+                .andExpect(jsonPath("$.reportingManagerId").value(first))
+                .andExpect(jsonPath("$.departureDate").value("2025-06-30"));
+        mockMvc.perform(get("/api/archived-employees").param("size", "50"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(3));
+        mockMvc.perform(get("/api/archived-employees/{id}", worker))
+                .andExpect(status().isNotFound());
+    }
+
+    private Long managerOf(Long employeeId) {
+        return jdbcTemplate.queryForObject("SELECT reporting_manager_id FROM employees WHERE id = ?", Long.class, employeeId);
+    }
+
+    private Long createDepartment(String name) {
+        return departmentService.createDepartment(new DepartmentCreateRequestDTO(name, LocalDate.of(2020, 1, 1), null)).getId();
+    }
+
+    private void setDepartmentHead(Long departmentId, String name, Long headId) {
+        departmentService.updateDepartment(departmentId, new DepartmentUpdateRequestDTO(name, LocalDate.of(2020, 1, 1), headId));
+    }
+
+    private Long createEmployee(String name, Long departmentId, String salary, Long managerId) {
+        EmployeeCreateRequestDTO create = new EmployeeCreateRequestDTO();
+        create.setName(name);
+        create.setDateOfBirth(LocalDate.of(1985, 11, 3));
+        create.setSalary(new BigDecimal(salary));
+        create.setDepartmentId(departmentId);
+        create.setRole("Engineer");
+        create.setJoiningDate(LocalDate.of(2017, 4, 10));
+        create.setYearlyBonusPercentage(6.0);
+        create.setReportingManagerId(managerId);
+        return employeeService.createEmployee(create).getId();
+    }
+}
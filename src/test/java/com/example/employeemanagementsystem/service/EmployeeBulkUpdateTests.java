@@ -0,0 +1,203 @@
+package com.example.employeemanagementsystem.service;
+
+import com.example.employeemanagementsystem.dto.BulkEmployeeFilterDTO;
+import com.example.employeemanagementsystem.dto.BulkEmployeeOperationDTO;
+import com.example.employeemanagementsystem.dto.BulkEmployeeUpdateRequestDTO;
+import com.example.employeemanagementsystem.dto.BulkEmployeeUpdateResponseDTO;
+import com.example.employeemanagementsystem.dto.DepartmentCreateRequestDTO;
+import com.example.employeemanagementsystem.dto.DepartmentResponseDTO;
+import com.example.employeemanagementsystem.dto.EmployeeCreateRequestDTO;
+import com.example.employeemanagementsystem.exception.ValidationException;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// Departments and employees created here go into a database of their own
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:bulkupdate")
+@DirtiesContext
+class EmployeeBulkUpdateTests {
+
+    private static final Timestamp OPEN_END = Timestamp.valueOf("9999-12-31 00:00:00");
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private DepartmentService departmentService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void dryRunReportsTheChangeWithoutApplyingIt() {
+        Long departmentId = createDepartment("Bulk Dry Run");
+        Long first = createEmployee("Dry Run One", departmentId, "50000.00");
+        Long second = createEmployee("Dry Run Two", departmentId, "60000.00");
+
+        BulkEmployeeUpdateResponseDTO response = employeeService.bulkUpdateEmployees(
+                request(byDepartment(departmentId), percent("10"), true));
+
+        assertThat(response.isDryRun()).isTrue();
+        assertThat(response.getMatchedEmployees()).isEqualTo(2);
+        assertThat(response.getUpdatedEmployees()).isZero();
+        assertThat(response.getAffectedDepartmentIds()).containsExactly(departmentId);
+        assertThat(response.getTotalSalaryBefore()).isEqualByComparingTo("110000.00");
+        assertThat(response.getTotalSalaryAfter()).isEqualByComparingTo("121000.00");
+
+        assertThat(salaryOf(first)).isEqualByComparingTo("50000.00");
+        assertThat(salaryOf(second)).isEqualByComparingTo("60000.00");
+        assertThat(historyVersions(first)).isEqualTo(1);
+        assertThat(departmentService.getDepartmentById(departmentId, false).getTotalSalary()).isEqualByComparingTo("110000.00");
+    }
+
+    @Test
+    void percentChangeIsRoundedToCentsAndUpdatesTheTotals() {
+        Long departmentId = createDepartment("Bulk Percent");
+        Long first = createEmployee("Percent One", departmentId, "33333.33");
+        Long second = createEmployee("Percent Two", departmentId, "40000.00");
+
+        BulkEmployeeUpdateResponseDTO response = employeeService.bulkUpdateEmployees(
+                request(byDepartment(departmentId), percent("3"), false));
+
+        assertThat(response.getUpdatedEmployees()).isEqualTo(2);
+        // 33333.33 * 1.03 = 34333.3299
+        assertThat(salaryOf(first)).isEqualByComparingTo("34333.33");
+        assertThat(salaryOf(second)).isEqualByComparingTo("41200.00");
+        DepartmentResponseDTO department = departmentService.getDepartmentById(departmentId, false);
+        assertThat(department.getHeadcount()).isEqualTo(2L);
+        assertThat(department.getTotalSalary()).isEqualByComparingTo("75533.33");
+    }
+
+    @Test
+    void amountChangeAppliesToTheFilteredEmployeesOnly() {
+        Long departmentId = createDepartment("Bulk Amount");
+        Long raised = createEmployee("Amount Raised", departmentId, "50000.00");
+        Long untouched = createEmployee("Amount Untouched", departmentId, "50000.00");
+
+        BulkEmployeeUpdateResponseDTO response = employeeService.bulkUpdateEmployees(
+                request(byIds(raised), amount("-1500.50"), false));
+
+        assertThat(response.getMatchedEmployees()).isEqualTo(1);
+        assertThat(response.getUpdatedEmployees()).isEqualTo(1);
+        assertThat(salaryOf(raised)).isEqualByComparingTo("48499.50");
+        assertThat(salaryOf(untouched)).isEqualByComparingTo("50000.00");
+        assertThat(departmentService.getDepartmentById(departmentId, false).getTotalSalary()).isEqualByComparingTo("98499.50");
+    }
+
+    @Test
+    void updateLeavingANonPositiveSalaryIsRejected() {
+        Long departmentId = createDepartment("Bulk Invalid");
+        Long low = createEmployee("Invalid Low", departmentId, "40000.00");
+        Long high = createEmployee("Invalid High", departmentId, "90000.00");
+
+        assertThatThrownBy(() -> employeeService.bulkUpdateEmployees(request(byDepartment(departmentId), amount("-40000.00"), false)))
+                .isInstanceOf(ValidationException.class)
+                .hasMessageContaining("1 employees");
+
+        assertThat(salaryOf(low)).isEqualByComparingTo("40000.00");
+        assertThat(salaryOf(high)).isEqualByComparingTo("90000.00");
+        assertThat(historyVersions(low)).isEqualTo(1);
+    }
+
+    @Test
+    void departmentTransferRecomputesBothDepartments() {
+        Long fromId = createDepartment("Bulk Transfer From");
+        Long toId = createDepartment("Bulk Transfer To");
+        Long moving = createEmployee("Transfer Moving", fromId, "70000.00");
+        createEmployee("Transfer Staying", fromId, "55000.00");
+        createEmployee("Transfer Waiting", toId, "65000.00");
+
+        BulkEmployeeOperationDTO transfer = new BulkEmployeeOperationDTO();
+        transfer.setNewDepartmentId(toId);
+        BulkEmployeeUpdateResponseDTO response = employeeService.bulkUpdateEmployees(request(byIds(moving), transfer, false));
+
+        assertThat(response.getAffectedDepartmentIds()).containsExactlyInAnyOrder(fromId, toId);
+        DepartmentResponseDTO from = departmentService.getDepartmentById(fromId, false);
+        assertThat(from.getHeadcount()).isEqualTo(1L);
+        assertThat(from.getTotalSalary()).isEqualByComparingTo("55000.00");
+        DepartmentResponseDTO to = departmentService.getDepartmentById(toId, false);
+        assertThat(to.getHeadcount()).isEqualTo(2L);
+        assertThat(to.getTotalSalary()).isEqualByComparingTo("135000.00");
+    }
+
+    @Test
+    void updatedEmployeesGetTheirHistoryVersionClosedAndReopened() {
+        Long departmentId = createDepartment("Bulk History");
+        Long employeeId = createEmployee("History Bulk", departmentId, "45000.00");
+
+        employeeService.bulkUpdateEmployees(request(byIds(employeeId), amount("5000.00"), false));
+
+        List<Map<String, Object>> versions = jdbcTemplate.queryForList(
+                "SELECT salary, valid_from, valid_to FROM employee_history WHERE employee_id = ? ORDER BY valid_from", employeeId);
+        assertThat(versions).hasSize(2);
+        Map<String, Object> closed = versions.get(0);
+        Map<String, Object> open = versions.get(1);
+        assertThat((BigDecimal) closed.get("SALARY")).isEqualByComparingTo("45000.00");
+        assertThat(closed.get("VALID_TO")).isEqualTo(open.get("VALID_FROM"));
+        assertThat((BigDecimal) open.get("SALARY")).isEqualByComparingTo("50000.00");
+        assertThat(open.get("VALID_TO")).isEqualTo(OPEN_END);
+    }
+
+    private Long createDepartment(String name) {
+        return departmentService.createDepartment(new DepartmentCreateRequestDTO(name, LocalDate.of(2020, 1, 1), null)).getId();
+    }
+
+    private Long createEmployee(String name, Long departmentId, String salary) {
+        EmployeeCreateRequestDTO create = new EmployeeCreateRequestDTO();
+        create.setName(name);
+        create.setDateOfBirth(LocalDate.of(1987, 5, 20));
+        create.setSalary(new BigDecimal(salary));
+        create.setDepartmentId(departmentId);
+        create.setRole("Analyst");
+        create.setJoiningDate(LocalDate.of(2018, 8, 1));
+        create.setYearlyBonusPercentage(5.0);
+        return employeeService.createEmployee(create).getId();
+    }
+
+    private BigDecimal salaryOf(Long employeeId) {
+        return jdbcTemplate.queryForObject("SELECT salary FROM employees WHERE id = ?", BigDecimal.class, employeeId);
+    }
+
+    private int historyVersions(Long employeeId) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM employee_history WHERE employee_id = ?", Integer.class, employeeId);
+    }
+
+    private static BulkEmployeeUpdateRequestDTO request(BulkEmployeeFilterDTO filter, BulkEmployeeOperationDTO operation, boolean dryRun) {
+        return new BulkEmployeeUpdateRequestDTO(filter, operation, dryRun);
+    }
+
+    private static BulkEmployeeFilterDTO byDepartment(Long departmentId) {
+        BulkEmployeeFilterDTO filter = new BulkEmployeeFilterDTO();
+        filter.setDepartmentId(departmentId);
+        return filter;
+    }
+
+    private static BulkEmployeeFilterDTO byIds(Long... employeeIds) {
+        BulkEmployeeFilterDTO filter = new BulkEmployeeFilterDTO();
+        filter.setEmployeeIds(List.of(employeeIds));
+        return filter;
+    }
+
+    private static BulkEmployeeOperationDTO percent(String percent) {
+        BulkEmployeeOperationDTO operation = new BulkEmployeeOperationDTO();
+        operation.setSalaryChangePercent(new BigDecimal(percent));
+        return operation;
+    }
+
+    private static BulkEmployeeOperationDTO amount(String amount) {
+        BulkEmployeeOperationDTO operation = new BulkEmployeeOperationDTO();
+        operation.setSalaryChangeAmount(new BigDecimal(amount));
+        return operation;
+    }
+}
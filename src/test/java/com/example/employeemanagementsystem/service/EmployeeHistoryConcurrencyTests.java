@@ -0,0 +1,81 @@
+package com.example.employeemanagementsystem.service;
+
+import com.example.employeemanagementsystem.dto.EmployeeCreateRequestDTO;
+import com.example.employeemanagementsystem.dto.EmployeeUpdateRequestDTO;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class EmployeeHistoryConcurrencyTests {
+
+    private static final int ROUNDS = 10;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void concurrentUpdatesLeaveOneOpenVersion() throws Exception {
+        EmployeeCreateRequestDTO create = new EmployeeCreateRequestDTO();
+        create.setName("History Race");
+        create.setDateOfBirth(LocalDate.of(1988, 3, 14));
+        create.setSalary(new BigDecimal("60000.00"));
+        create.setRole("Engineer");
+        create.setJoiningDate(LocalDate.of(2019, 9, 2));
+        create.setYearlyBonusPercentage(3.0);
+        Long id = employeeService.createEmployee(create).getId();
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            for (int round = 0; round < ROUNDS; round++) {
+                CyclicBarrier start = new CyclicBarrier(2);
+                List<Future<?>> updates = new ArrayList<>();
+                for (int writer = 0; writer < 2; writer++) {
+                    BigDecimal salary = new BigDecimal(61000 + round * 10 + writer);
+                    updates.add(executor.submit(() -> {
+                        start.await();
+                        return employeeService.updateEmployee(id, salaryUpdate(salary));
+                    }));
+                }
+                for (Future<?> update : updates) {
+                    update.get(30, TimeUnit.SECONDS); // Fails the test if either update threw
+                }
+                assertThat(openVersions(id)).isEqualTo(1);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // The history is still a single chain an ordinary update can extend
+        employeeService.updateEmployee(id, salaryUpdate(new BigDecimal("70000.00")));
+        assertThat(openVersions(id)).isEqualTo(1);
+    }
+
+    private int openVersions(Long employeeId) {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM employee_history WHERE employee_id = ? AND valid_to = TIMESTAMP '9999-12-31 00:00:00'",
+                Integer.class, employeeId);
+    }
+
+    private static EmployeeUpdateRequestDTO salaryUpdate(BigDecimal salary) {
+        EmployeeUpdateRequestDTO update = new EmployeeUpdateRequestDTO();
+        update.setSalary(salary);
+        return update;
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.employeemanagementsystem.service;
+
+import com.example.employeemanagementsystem.dto.DepartmentCreateRequestDTO;
+import com.example.employeemanagementsystem.dto.EmployeeCreateRequestDTO;
+import com.example.employeemanagementsystem.dto.RankedEmployeeDTO;
+import com.example.employeemanagementsystem.dto.TopEmployeesGroupDTO;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// The groups are asserted exactly, so the database is one of its own without the random sample data
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:ranking",
+        "app.sample-data.enabled=false"
+})
+@DirtiesContext
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class EmployeeRankingServiceTests {
+
+    @Autowired
+    private EmployeeRankingService employeeRankingService;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private DepartmentService departmentService;
+
+    private Long alpha;
+    private Long beta;
+    private Long firstTied;
+    private Long secondTied;
+    private Long thirdTied;
+    private Long betaOnly;
+    private Long unassignedHigh;
+    private Long unassignedLow;
+
+    @BeforeAll
+    void createEmployees() {
+        alpha = createDepartment("Ranking Alpha");
+        beta = createDepartment("Ranking Beta");
+        firstTied = createEmployee("Tied First", alpha, "90000.00", "Engineer");
+        secondTied = createEmployee("Tied Second", alpha, "90000.00", "Engineer");
+        thirdTied = createEmployee("Tied Third", alpha, "90000.00", "Analyst");
+        createEmployee("Alpha Low", alpha, "50000.00", "Analyst");
+        betaOnly = createEmployee("Beta Only", beta, "70000.00", "Engineer");
+        unassignedHigh = createEmployee("Unassigned High", null, "80000.00", "Contractor");
+        unassignedLow = createEmployee("Unassigned Low", null, "60000.00", "Contractor");
+    }
+
+    @Test
+    void topKBreaksTiesByIdAndGroupsEmployeesWithoutADepartmentLast() {
+        List<TopEmployeesGroupDTO> groups = employeeRankingService.getTopEmployees("salary", "department", 2);
+
+        assertThat(groups).extracting(TopEmployeesGroupDTO::getGroup)
+                .containsExactly("Ranking Alpha", "Ranking Beta", "Unassigned");
+        assertThat(groups).extracting(TopEmployeesGroupDTO::getDepartmentId).containsExactly(alpha, beta, null);
+        // Three-way tie at the top of Alpha: the lowest IDs win and ranks stay 1, 2
+        assertThat(groups.get(0).getEmployees()).extracting(RankedEmployeeDTO::getId).containsExactly(firstTied, secondTied);
+        assertThat(groups.get(0).getEmployees()).extracting(RankedEmployeeDTO::getRank).containsExactly(1, 2);
+        assertThat(groups.get(1).getEmployees()).extracting(RankedEmployeeDTO::getId).containsExactly(betaOnly);
+        assertThat(groups.get(2).getEmployees()).extracting(RankedEmployeeDTO::getId).containsExactly(unassignedHigh, unassignedLow);
+        assertThat(groups.get(2).getEmployees()).extracting(RankedEmployeeDTO::getDepartment).containsOnlyNulls();
+    }
+
+    @Test
+    void topKPerRoleIsOrderedByRole() {
+        List<TopEmployeesGroupDTO> groups = employeeRankingService.getTopEmployees("salary", "role", 1);
+
+        assertThat(groups).extracting(TopEmployeesGroupDTO::getGroup).containsExactly("Analyst", "Contractor", "Engineer");
+        assertThat(groups).extracting(group -> group.getEmployees().get(0).getId())
+                .containsExactly(thirdTied, unassignedHigh, firstTied);
+    }
+
+    private Long createDepartment(String name) {
+        return departmentService.createDepartment(new DepartmentCreateRequestDTO(name, LocalDate.of(2020, 1, 1), null)).getId();
+    }
+
+    private Long createEmployee(String name, Long departmentId, String salary, String role) {
+        EmployeeCreateRequestDTO create = new EmployeeCreateRequestDTO();
+        create.setName(name);
+        create.setDateOfBirth(LocalDate.of(1991, 7, 4));
+        create.setSalary(new BigDecimal(salary));
+        create.setDepartmentId(departmentId);
+        create.setRole(role);
+        create.setJoiningDate(LocalDate.of(2019, 1, 14));
+        create.setYearlyBonusPercentage(4.0);
+        return employeeService.createEmployee(create).getId();
+    }
+}
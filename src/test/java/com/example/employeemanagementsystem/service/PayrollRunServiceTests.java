@@ -0,0 +1,53 @@
+package com.example.employeemanagementsystem.service;
+
+import com.example.employeemanagementsystem.entity.PayrollRun;
+import com.example.employeemanagementsystem.entity.PayrollRunStatus;
+import com.example.employeemanagementsystem.repository.PayrollRunRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class PayrollRunServiceTests {
+
+    @Autowired
+    private PayrollRunRepository payrollRunRepository;
+
+    @Test
+    void bonusIsRoundedHalfEvenToCents() {
+        assertThat(PayrollRunService.calculateBonus(new BigDecimal("50000.00"), 7.5)).isEqualByComparingTo("3750.00");
+        // 0.125 and 0.135 are not exact in binary; the decimal form of the percentage is used
+        assertThat(PayrollRunService.calculateBonus(new BigDecimal("12.50"), 1.0)).isEqualTo(new BigDecimal("0.12"));
+        assertThat(PayrollRunService.calculateBonus(new BigDecimal("13.50"), 1.0)).isEqualTo(new BigDecimal("0.14"));
+        assertThat(PayrollRunService.calculateBonus(new BigDecimal("100.00"), 0.125)).isEqualTo(new BigDecimal("0.12"));
+        assertThat(PayrollRunService.calculateBonus(new BigDecimal("100.00"), 0.135)).isEqualTo(new BigDecimal("0.14"));
+        assertThat(PayrollRunService.calculateBonus(new BigDecimal("0.00"), 12.0)).isEqualTo(new BigDecimal("0.00"));
+    }
+
+    @Test
+    @Transactional
+    void databaseAdmitsOneRunningRunAtATime() {
+        assertThatThrownBy(() -> {
+            payrollRunRepository.saveAndFlush(runningRun());
+            payrollRunRepository.saveAndFlush(runningRun());
+        }).isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    private static PayrollRun runningRun() {
+        PayrollRun run = new PayrollRun();
+        run.setStatus(PayrollRunStatus.RUNNING);
+        run.setCreatedAt(LocalDateTime.now());
+        run.setChunkSize(1);
+        run.setTotalChunks(0);
+        run.setTotalEmployees(0L);
+        return run;
+    }
+}
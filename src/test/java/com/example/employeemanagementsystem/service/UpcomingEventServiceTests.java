@@ -0,0 +1,65 @@
+package com.example.employeemanagementsystem.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UpcomingEventServiceTests {
+
+    @Test
+    void windowInsideTheYearIsOneRange() {
+        assertThat(UpcomingEventService.dayOfYearRanges(LocalDate.of(2025, 3, 1), LocalDate.of(2025, 3, 10)))
+                .isEqualTo(new int[][]{{61, 70}});
+    }
+
+    @Test
+    void windowCrossingDecember31IsTwoRanges() {
+        // Leap-year numbering: Dec 20 is day 355 whatever the year
+        assertThat(UpcomingEventService.dayOfYearRanges(LocalDate.of(2025, 12, 20), LocalDate.of(2026, 1, 5)))
+                .isEqualTo(new int[][]{{355, 366}, {1, 5}});
+        assertThat(UpcomingEventService.dayOfYearRanges(LocalDate.of(2025, 12, 31), LocalDate.of(2026, 1, 1)))
+                .isEqualTo(new int[][]{{366, 366}, {1, 1}});
+    }
+
+    @Test
+    void windowEndingOnFebruary28OfANonLeapYearIncludesFebruary29() {
+        assertThat(UpcomingEventService.dayOfYearRanges(LocalDate.of(2025, 2, 20), LocalDate.of(2025, 2, 28)))
+                .isEqualTo(new int[][]{{51, 60}});
+        // In a leap year Feb 29 is a day of its own and Feb 28 does not stand in for it
+        assertThat(UpcomingEventService.dayOfYearRanges(LocalDate.of(2024, 2, 20), LocalDate.of(2024, 2, 28)))
+                .isEqualTo(new int[][]{{51, 59}});
+    }
+
+    @Test
+    void windowOfAYearOrMoreCoversEveryDay() {
+        assertThat(UpcomingEventService.dayOfYearRanges(LocalDate.of(2025, 3, 1), LocalDate.of(2026, 3, 1)))
+                .isEqualTo(new int[][]{{1, 366}});
+        // 364 days from Mar 1 wraps back around to Feb 28, which brings Feb 29 with it
+        assertThat(UpcomingEventService.dayOfYearRanges(LocalDate.of(2025, 3, 1), LocalDate.of(2026, 2, 28)))
+                .isEqualTo(new int[][]{{61, 366}, {1, 60}});
+    }
+
+    @Test
+    void nextOccurrenceWrapsPastDecember31() {
+        LocalDate from = LocalDate.of(2025, 12, 30);
+        LocalDate to = LocalDate.of(2026, 1, 5);
+        assertThat(UpcomingEventService.nextOccurrence(LocalDate.of(1990, 12, 31), from, to)).isEqualTo(LocalDate.of(2025, 12, 31));
+        assertThat(UpcomingEventService.nextOccurrence(LocalDate.of(1990, 1, 2), from, to)).isEqualTo(LocalDate.of(2026, 1, 2));
+        assertThat(UpcomingEventService.nextOccurrence(LocalDate.of(1990, 12, 29), from, to)).isNull();
+    }
+
+    @Test
+    void nextOccurrenceOfFebruary29() {
+        LocalDate leapDay = LocalDate.of(1996, 2, 29);
+        assertThat(UpcomingEventService.nextOccurrence(leapDay, LocalDate.of(2025, 2, 28), LocalDate.of(2025, 3, 5)))
+                .isEqualTo(LocalDate.of(2025, 2, 28));
+        assertThat(UpcomingEventService.nextOccurrence(leapDay, LocalDate.of(2028, 2, 28), LocalDate.of(2028, 3, 5)))
+                .isEqualTo(LocalDate.of(2028, 2, 29));
+        assertThat(UpcomingEventService.nextOccurrence(leapDay, LocalDate.of(2025, 3, 1), LocalDate.of(2025, 3, 5))).isNull();
+        // Window crossing into a non-leap February
+        assertThat(UpcomingEventService.nextOccurrence(leapDay, LocalDate.of(2024, 12, 1), LocalDate.of(2025, 3, 1)))
+                .isEqualTo(LocalDate.of(2025, 2, 28));
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.employeemanagementsystem.stats;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class SalarySketchTests {
+
+    private static final double ACCURACY = 0.01;
+    private static final double[] QUANTILES = {0.0, 0.1, 0.25, 0.5, 0.75, 0.9, 0.99, 1.0};
+
+    @Test
+    void quantilesStayWithinRelativeAccuracy() {
+        Random random = new Random(42);
+        double[] salaries = new double[20_000];
+        SalarySketch sketch = new SalarySketch(ACCURACY, 2048);
+        for (int i = 0; i < salaries.length; i++) {
+            salaries[i] = Math.round(Math.exp(11 + random.nextGaussian() * 0.6) * 100) / 100.0;
+            sketch.add(salaries[i]);
+        }
+
+        assertWithinBound(sketch, salaries);
+    }
+
+    @Test
+    void removalRestoresPreviousDistribution() {
+        Random random = new Random(7);
+        SalarySketch sketch = new SalarySketch(ACCURACY, 2048);
+        List<Double> kept = new ArrayList<>();
+        for (int i = 0; i < 5_000; i++) {
+            double salary = 30_000 + random.nextInt(170_000);
+            sketch.add(salary);
+            kept.add(salary);
+        }
+        for (int i = 0; i < 1_000; i++) {
+            sketch.remove(kept.remove(kept.size() - 1));
+        }
+
+        assertThat(sketch.getCount()).isEqualTo(kept.size());
+        assertWithinBound(sketch, kept.stream().mapToDouble(Double::doubleValue).toArray());
+    }
+
+    @Test
+    void mergedSketchMatchesSingleSketch() {
+        Random random = new Random(3);
+        SalarySketch combined = new SalarySketch(ACCURACY, 2048);
+        SalarySketch left = new SalarySketch(ACCURACY, 2048);
+        SalarySketch right = new SalarySketch(ACCURACY, 2048);
+        for (int i = 0; i < 4_000; i++) {
+            double salary = 20_000 + random.nextInt(300_000);
+            combined.add(salary);
+            (i % 3 == 0 ? left : right).add(salary);
+        }
+        left.merge(right);
+
+        assertThat(left.getCount()).isEqualTo(combined.getCount());
+        for (double q : QUANTILES) {
+            assertThat(left.quantile(q)).isEqualTo(combined.quantile(q));
+        }
+    }
+
+    @Test
+    void memoryIsBoundedByMaxBuckets() {
+        SalarySketch sketch = new SalarySketch(ACCURACY, 64);
+        for (double salary = 1; salary < 1e9; salary *= 1.5) {
+            sketch.add(salary);
+        }
+        // Low values collapse into the lowest bucket; the top of the distribution keeps the bound
+        assertThat(sketch.quantile(1.0)).isCloseTo(Math.pow(1.5, 51), within(Math.pow(1.5, 51) * ACCURACY));
+    }
+
+    private static void assertWithinBound(SalarySketch sketch, double[] values) {
+        double[] sorted = values.clone();
+        Arrays.sort(sorted);
+        for (double q : QUANTILES) {
+            double exact = sorted[(int) (q * (sorted.length - 1))];
+            assertThat(sketch.quantile(q)).isCloseTo(exact, within(exact * ACCURACY));
+        }
+    }
+}